@@ -0,0 +1,54 @@
+package com.pjx.pjxserver.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러마다 Authorization 헤더를 다시 파싱하던 방식과 @AuthKakaoId 주입 방식의 요청당 비용 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthKakaoIdResolutionBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String authHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        authHeader = "Bearer " + jwtUtil.generateToken(Map.of(), "3748591023");
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(3748591023L, null, null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 기존 extractKakaoIdFromJwt: 요청마다 JWS 서명 검증
+    @Benchmark
+    public Long extractFromHeader() {
+        String token = authHeader.substring(7);
+        return Long.valueOf(jwtUtil.extractSubject(token));
+    }
+
+    // AuthKakaoIdArgumentResolver: 필터가 저장한 principal 조회
+    @Benchmark
+    public Long resolveFromPrincipal() {
+        return AuthKakaoIdArgumentResolver.currentKakaoId();
+    }
+}
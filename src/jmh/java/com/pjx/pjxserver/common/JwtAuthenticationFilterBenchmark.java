@@ -0,0 +1,53 @@
+package com.pjx.pjxserver.common;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 인증이 필요한 모든 요청이 거치는 JwtAuthenticationFilter 전체 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    // true: 같은 토큰으로 반복 호출 (캐시 적중), false: 매번 서명 검증
+    @Param({"true", "false"})
+    public boolean cacheHit;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> {
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheHit ? 10000 : 0, 600);
+        filter = new JwtAuthenticationFilter(jwtUtil, cache);
+
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(Map.of(), "3748591023"));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,69 @@
+package com.pjx.pjxserver.common;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 호출마다 parserBuilder().build() 하던 기존 경로와 공유 JwtParser(parseClaims) 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    // 실제 로그인 토큰은 클레임이 없고, 추가 클레임이 붙는 경우까지 크기별로 측정
+    @Param({"0", "4", "16"})
+    public int extraClaims;
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        key = (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+
+        Map<String, Object> claims = new HashMap<>();
+        for (int i = 0; i < extraClaims; i++) {
+            claims.put("claim" + i, "value-" + i + "-" + "x".repeat(24));
+        }
+        token = jwtUtil.generateToken(claims, "3748591023");
+    }
+
+    // 기존 방식: extractSubject + isTokenExpired 각각 새 파서로 두 번 파싱
+    @Benchmark
+    public boolean parserPerCall() {
+        String subject = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getSubject();
+        Date expiration = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getExpiration();
+        return subject != null && expiration.after(new Date());
+    }
+
+    // 기존 방식에서 파싱을 한 번으로 줄였을 때 (파서 생성 비용만 남음)
+    @Benchmark
+    public Claims parserPerCallSingleParse() {
+        return Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public JwtClaims sharedParser() {
+        return jwtUtil.parseClaims(token);
+    }
+}
@@ -0,0 +1,39 @@
+package com.pjx.pjxserver.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 시 토큰 발급과 요청마다의 subject 추출 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        token = jwtUtil.generateToken(Map.of(), "3748591023");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(Map.of(), "3748591023");
+    }
+
+    @Benchmark
+    public String extractSubject() {
+        return jwtUtil.extractSubject(token);
+    }
+}
@@ -0,0 +1,204 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.pjx.pjxserver.config.AsyncConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 지출 생성 요청의 이미지 업로드 경로(ImageStorageService.uploadAll)를 두 스레딩 모드로 실행해 비교
+// - imageUploadExecutor 는 AsyncConfig 의 두 빈(PLATFORM: 고정 풀 + 대기열, VIRTUAL: 가상 스레드 + 동시 실행 상한)을 그대로 사용
+// - 요청 스레드는 Tomcat 과 같게 PLATFORM 은 200개 고정 풀, VIRTUAL 은 요청마다 가상 스레드
+// - S3 는 PUT 마다 latencyMillis 만큼 지연하는 스텁, 내용 해시 등록은 DB 없이 새 키를 그대로 등록
+// Tomcat 커넥터, Hikari/JDBC, 실제 네트워크는 포함하지 않으므로 업로드 경로의 스레드 사용만 비교함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class RequestThreadingBenchmark {
+
+    private static final String BUCKET = "pjx-bench";
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int GLOBAL_CONCURRENCY = 16;
+    private static final int QUEUE_CAPACITY = 200;
+    private static final int PER_REQUEST_CONCURRENCY = 4;
+    private static final int IMAGE_BYTES = 64 * 1024;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threading;
+
+    // 동시에 들어오는 지출 생성 요청 수
+    @Param({"200"})
+    public int concurrentRequests;
+
+    // 요청 하나에 첨부한 이미지 수
+    @Param({"2"})
+    public int imagesPerRequest;
+
+    // 주입하는 S3 PUT 지연
+    @Param({"50", "200"})
+    public long latencyMillis;
+
+    private ExecutorService requestExecutor;
+    private ThreadPoolTaskExecutor platformUploadExecutor;
+    private SimpleAsyncTaskExecutor virtualUploadExecutor;
+    private ImageStorageService imageStorageService;
+    private List<MultipartFile> images;
+
+    // 요청 결과 (PLATFORM 모드는 업로드 대기열이 차면 요청이 실패하므로 처리량과 함께 확인)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long succeeded;
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        Executor uploadExecutor;
+        if ("VIRTUAL".equals(threading)) {
+            requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+            virtualUploadExecutor = asyncConfig.virtualImageUploadExecutor(GLOBAL_CONCURRENCY);
+            uploadExecutor = virtualUploadExecutor;
+        } else {
+            requestExecutor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            platformUploadExecutor = asyncConfig.imageUploadExecutor(GLOBAL_CONCURRENCY, QUEUE_CAPACITY);
+            platformUploadExecutor.initialize();
+            uploadExecutor = platformUploadExecutor;
+        }
+
+        imageStorageService = new ImageStorageService(new LatencyS3Client(latencyMillis), null,
+                new UnsharedImageObjectService(), uploadExecutor, PER_REQUEST_CONCURRENCY, Long.MAX_VALUE);
+        ReflectionTestUtils.setField(imageStorageService, "bucketName", BUCKET);
+
+        images = new ArrayList<>(imagesPerRequest);
+        for (int i = 0; i < imagesPerRequest; i++) {
+            byte[] content = new byte[IMAGE_BYTES];
+            ThreadLocalRandom.current().nextBytes(content);
+            images.add(new MockMultipartFile("images", "receipt-" + i + ".jpg", "image/jpeg", content));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        if (platformUploadExecutor != null) {
+            platformUploadExecutor.shutdown();
+        }
+        if (virtualUploadExecutor != null) {
+            virtualUploadExecutor.close();
+        }
+    }
+
+    // 지출 생성 요청 concurrentRequests 건의 업로드를 모두 처리하는 속도 (ops/min x concurrentRequests = 요청 처리량)
+    @Benchmark
+    public int createSpendingBurst(Outcomes outcomes) throws Exception {
+        List<Future<List<String>>> requests = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            requests.add(requestExecutor.submit(() -> imageStorageService.uploadAll("spending/", images)));
+        }
+        int uploaded = 0;
+        for (Future<List<String>> request : requests) {
+            try {
+                uploaded += request.get().size();
+                outcomes.succeeded++;
+            } catch (ExecutionException e) {
+                outcomes.failed++;
+            }
+        }
+        return uploaded;
+    }
+
+    // PUT 한 건마다 본문을 끝까지 읽고 latencyMillis 동안 응답을 기다리는 S3 스텁
+    @SuppressWarnings("deprecation")
+    private static final class LatencyS3Client extends AmazonS3Client {
+
+        private final long latencyMillis;
+
+        LatencyS3Client(long latencyMillis) {
+            super(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()));
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public PutObjectResult putObject(String bucketName, String key, InputStream input, ObjectMetadata metadata) {
+            try {
+                input.transferTo(OutputStream.nullOutputStream());
+                Thread.sleep(latencyMillis);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return new PutObjectResult();
+        }
+
+        @Override
+        public URL getUrl(String bucketName, String key) {
+            try {
+                return URI.create("https://" + bucketName + ".s3.amazonaws.com/" + key).toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    // 중복 제거 없이 새로 올린 키를 그대로 사용 (DB 미사용)
+    private static final class UnsharedImageObjectService extends ImageObjectService {
+
+        UnsharedImageObjectService() {
+            super(null, null);
+        }
+
+        @Override
+        public String reuse(String contentHash) {
+            return null;
+        }
+
+        @Override
+        public String register(String contentHash, String s3Key) {
+            return s3Key;
+        }
+
+        // 일부 업로드가 실패한 요청의 정리 (스텁 S3 라 지울 객체 없음)
+        @Override
+        public boolean release(String s3Key) {
+            return true;
+        }
+    }
+}
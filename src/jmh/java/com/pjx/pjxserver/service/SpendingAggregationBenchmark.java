@@ -0,0 +1,73 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.domain.Reaction;
+import com.pjx.pjxserver.domain.Spending;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 지출 목록 응답 변환 (DB 조회를 제외한 서비스 내부 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpendingAggregationBenchmark {
+
+    @Param({"30", "300", "3000"})
+    public int rows;
+
+    private List<Spending> spendings;
+    private List<Reaction> reactions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate start = LocalDate.of(2024, 11, 1);
+        spendings = new ArrayList<>(rows);
+        reactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<Long, String> spendingReactions = new HashMap<>();
+            spendingReactions.put(1000L + i, "HAPPY");
+            spendings.add(Spending.builder()
+                    .id((long) i)
+                    .kakaoId(1000L + (i % 20))
+                    .amount(BigDecimal.valueOf(1000L + i * 37L))
+                    .description("점심 식사 " + i)
+                    .note("친구와 점심")
+                    .images(List.of("https://pjx-server-s3.s3.ap-northeast-2.amazonaws.com/spending/" + i + ".jpg"))
+                    .date(start.plusDays(i % 30))
+                    .reactions(spendingReactions)
+                    .build());
+            reactions.add(Reaction.builder()
+                    .id((long) i)
+                    .kakaoId(1000L)
+                    .date(start.plusDays(i % 30))
+                    .reactionType("HAPPY")
+                    .build());
+        }
+    }
+
+    // SpendingService.getFriendSpendingSummary 의 HashMap 변환
+    @Benchmark
+    public List<Map<String, Object>> friendSpendingSummaries() {
+        return SpendingService.toFriendSpendingSummaries(spendings);
+    }
+
+    // ReactionService.getReactionsByDateRange 의 HashMap 변환
+    @Benchmark
+    public List<Map<String, Object>> reactionData() {
+        return ReactionService.toReactionData(reactions);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pjx.pjxserver.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// JwtAuthenticationFilter에서 검증된 사용자의 kakaoId를 컨트롤러 파라미터로 주입
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuthKakaoId {
+}
@@ -0,0 +1,57 @@
+package com.pjx.pjxserver.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최대 크기와 항목별 만료 시각으로 제한되는 LRU 캐시
+public class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public BoundedTtlCache(int maxSize) {
+        this.maxSize = maxSize;
+        // accessOrder = true 로 가장 오래 사용되지 않은 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedTtlCache.this.maxSize;
+            }
+        };
+    }
+
+    // 만료된 항목은 조회 시점에 제거하고 null 반환
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
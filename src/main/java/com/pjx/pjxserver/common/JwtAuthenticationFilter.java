@@ -1,5 +1,6 @@
 package com.pjx.pjxserver.common;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,9 +17,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -32,12 +35,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String token = authHeader.substring(7); // "Bearer " 이후 부분 추출
-        final String username = jwtUtil.extractSubject(token);
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.isTokenValid(token, username)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Long kakaoId = resolveKakaoId(token);
+            if (kakaoId != null) {
+                // 컨트롤러에서 다시 파싱하지 않도록 kakaoId 자체를 principal로 저장
                 UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(username, null, null);
+                        new UsernamePasswordAuthenticationToken(kakaoId, null, null);
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
@@ -45,4 +49,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    // 캐시에 없을 때만 서명 검증 (파싱 중 만료 여부도 함께 검사됨)
+    private Long resolveKakaoId(String token) {
+        try {
+            String subject = verifiedTokenCache.getSubject(token);
+            if (subject == null) {
+                JwtClaims claims = jwtUtil.parseClaims(token);
+                subject = claims.getSubject();
+                if (subject == null) {
+                    return null;
+                }
+                verifiedTokenCache.put(token, subject, claims.getExpiration());
+            }
+            return Long.valueOf(subject);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 유효하지 않은 토큰은 인증 없이 다음 필터로 진행
+            return null;
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package com.pjx.pjxserver.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명 검증을 마친 JWT에서 인증에 필요한 값만 추린 결과
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+    private final String subject;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
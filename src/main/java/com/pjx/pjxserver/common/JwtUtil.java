@@ -1,6 +1,8 @@
 package com.pjx.pjxserver.common;
 
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -60,6 +62,11 @@ public class JwtUtil {
 
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
+    // JwtParser는 불변이고 스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
     // 토큰 생성 메소드
     public String generateToken(Map<String, Object> claims, String subject) {
         long expirationTime = 1000L * 60 * 60 * 24 * 365 * 24;// 토큰 만료 시간: 24년
@@ -73,29 +80,20 @@ public class JwtUtil {
                 .compact();
     }
 
+    // 한 번의 파싱으로 서명 검증 후 subject와 만료 시각을 함께 반환
+    public JwtClaims parseClaims(String token) {
+        Claims body = jwtParser.parseClaimsJws(token).getBody();
+        return new JwtClaims(body.getSubject(), body.getExpiration());
+    }
+
     // 토큰에서 사용자 정보 추출
     public String extractSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // 토큰 유효성 검증
     public boolean isTokenValid(String token, String userDetails) {
-        final String username = extractSubject(token);
-        return (username.equals(userDetails) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration()
-                .before(new Date());
+        final JwtClaims claims = parseClaims(token);
+        return (claims.getSubject().equals(userDetails) && !claims.isExpired());
     }
 }
@@ -0,0 +1,31 @@
+package com.pjx.pjxserver.common;
+
+import com.pjx.pjxserver.dto.KakaoUserInfoResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 카카오 액세스 토큰으로 조회한 사용자 정보를 짧게 보관하는 캐시 (토큰 원문 대신 SHA-256 해시를 키로 사용)
+// 앱 재실행 때마다 같은 토큰으로 /api/kakao/userinfo 를 다시 불러도 kapi.kakao.com 호출과 사용자 저장을 생략
+// 카카오에서 토큰을 폐기해도 TTL 동안은 캐시된 정보로 로그인되므로 TTL 은 짧게 유지
+@Component
+public class KakaoUserInfoCache {
+
+    private final BoundedTtlCache<String, KakaoUserInfoResponseDto> cache;
+    private final long ttlMillis;
+
+    public KakaoUserInfoCache(@Value("${kakao.userinfo-cache.max-size:10000}") int maxSize,
+                              @Value("${kakao.userinfo-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = new BoundedTtlCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 캐시에 있으면 사용자 정보, 없거나 만료되었으면 null
+    public KakaoUserInfoResponseDto get(String accessToken) {
+        return cache.get(VerifiedTokenCache.hash(accessToken));
+    }
+
+    // 사용자 저장까지 끝난 정보만 보관 (저장 실패한 정보로 다음 저장을 건너뛰지 않도록)
+    public void put(String accessToken, KakaoUserInfoResponseDto userInfo) {
+        cache.put(VerifiedTokenCache.hash(accessToken), userInfo, System.currentTimeMillis() + ttlMillis);
+    }
+}
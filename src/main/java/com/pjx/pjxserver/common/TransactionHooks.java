@@ -0,0 +1,24 @@
+package com.pjx.pjxserver.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에만 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.pjx.pjxserver.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+// 서명 검증이 끝난 JWT의 subject를 보관하는 캐시 (토큰 원문 대신 SHA-256 해시를 키로 사용)
+@Component
+public class VerifiedTokenCache {
+
+    private final BoundedTtlCache<String, String> cache;
+    private final long ttlMillis;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = new BoundedTtlCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 캐시에 있으면 검증된 subject, 없거나 만료되었으면 null
+    public String getSubject(String token) {
+        return cache.get(hash(token));
+    }
+
+    // 토큰 만료 시각과 캐시 TTL 중 빠른 시각까지만 보관
+    public void put(String token, String subject, Date expiration) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        cache.put(hash(token), subject, expiresAt);
+    }
+
+    // 다른 토큰 캐시(KakaoUserInfoCache)도 같은 방식으로 키를 만듦
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
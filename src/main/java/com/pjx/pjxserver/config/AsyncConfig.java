@@ -0,0 +1,67 @@
+package com.pjx.pjxserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class AsyncConfig {
+
+    // S3 업로드 전용 풀: 스레드 수가 서버 전체 동시 업로드 수의 상한 (SDK 기본 커넥션 50개보다 작게 유지)
+    @Bean(name = "imageUploadExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${image.upload.global-concurrency:16}") int globalConcurrency,
+            @Value("${image.upload.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(globalConcurrency);
+        executor.setMaxPoolSize(globalConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // spring.threads.virtual.enabled=true 일 때: 업로드마다 가상 스레드, 동시 업로드 수 상한은 그대로 유지
+    // (상한을 넘으면 대기열 대신 제출한 요청 스레드가 기다림, 요청 스레드도 가상 스레드라 비용이 작음)
+    @Bean(name = "imageUploadExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualImageUploadExecutor(
+            @Value("${image.upload.global-concurrency:16}") int globalConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("s3-upload-vt-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(globalConcurrency);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    // 썸네일 생성 전용 풀: 디코딩한 원본 비트맵이 스레드당 수십 MB 라서 동시 처리 수를 작게 유지
+    // CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 사용
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${image.processing.concurrency:2}") int concurrency,
+            @Value("${image.processing.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-resize-");
+        return executor;
+    }
+
+    // 카카오 로그인 응답 처리 중 JPA 저장/JWT 생성을 WebClient(Netty) 이벤트 루프 밖에서 실행
+    // 스레드 수는 DB 커넥션 풀 정도로 두고, 넘치는 작업은 대기열에서 기다림
+    @Bean(name = "loginScheduler", destroyMethod = "dispose")
+    public Scheduler loginScheduler(
+            @Value("${kakao.login.worker-threads:20}") int workerThreads,
+            @Value("${kakao.login.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(workerThreads, queueCapacity, "kakao-login");
+    }
+}
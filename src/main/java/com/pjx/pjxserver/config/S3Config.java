@@ -3,12 +3,18 @@ package com.pjx.pjxserver.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+
 @Configuration
 public class S3Config {
     @Value("${cloud.aws.credentials.access-key}")
@@ -20,14 +26,45 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 로컬 개발 시 MinIO/LocalStack 같은 S3 호환 서버 주소 (비어 있으면 AWS S3 사용)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3Client amazonS3Client(){
 
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        if (endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+
+        return (AmazonS3Client) builder.build();
+    }
+
+    // 임계값 이상 파일은 파트 단위 멀티파트 업로드 (파트 전송 스레드 수로 큰 파일 동시 전송량 제한)
+    // shutdownNow() 는 공유 AmazonS3Client 까지 닫으므로 종료 처리는 transferManagerShutdown 에서 따로 함
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client,
+                                           @Value("${image.upload.multipart-threshold-bytes:8388608}") long multipartThreshold,
+                                           @Value("${image.upload.multipart-threads:4}") int multipartThreads) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(multipartThreads))
                 .build();
     }
+
+    // 컨텍스트 종료 시 멀티파트 전송 스레드만 정리
+    // AmazonS3Client 는 정리 작업/커밋 후 삭제 등 다른 빈이 계속 쓰므로 Spring 이 마지막에 shutdown 으로 닫음
+    @Bean
+    public DisposableBean transferManagerShutdown(TransferManager transferManager) {
+        return () -> transferManager.shutdownNow(false);
+    }
 }
@@ -2,6 +2,7 @@ package com.pjx.pjxserver.config;
 
 import com.pjx.pjxserver.common.JwtAuthenticationFilter;
 import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.VerifiedTokenCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -15,9 +16,11 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @Configuration
 public class SecurityConfig {
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
+    public SecurityConfig(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Bean
@@ -35,7 +38,7 @@ public class SecurityConfig {
                 //         .anyRequest().requiresSecure() // 나머지는 HTTPS
                 // )
 
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, verifiedTokenCache), UsernamePasswordAuthenticationFilter.class);
 
 
 
@@ -1,5 +1,6 @@
 package com.pjx.pjxserver.config;
 
+import com.pjx.pjxserver.common.AuthKakaoId;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.Schema;
 import org.springdoc.core.customizers.OperationCustomizer;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -26,6 +28,11 @@ import org.springframework.context.annotation.Configuration;
         in = SecuritySchemeIn.HEADER
 )
 public class SwaggerConfig {
+    static {
+        // @AuthKakaoId 파라미터는 JWT에서 주입되므로 API 문서에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(AuthKakaoId.class);
+    }
+
     @Bean
     public OperationCustomizer operationCustomizer() {
         return (operation, handlerMethod) -> {
@@ -0,0 +1,55 @@
+package com.pjx.pjxserver.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    // 카카오 OAuth/API 호출용 커넥션 풀 (요청마다 새 연결을 맺지 않고 keep-alive 연결 재사용)
+    // 풀 사용량은 reactor.netty.connection.provider.* 지표로 노출
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(
+            @Value("${kakao.http.max-connections:50}") int maxConnections,
+            @Value("${kakao.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${kakao.http.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${kakao.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${kakao.http.max-life-time:5m}") Duration maxLifeTime) {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                // 상대 서버가 먼저 끊은 유휴 연결을 재사용하지 않도록 주기적으로 정리
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    // 모든 카카오 호출이 공유하는 WebClient (연결/응답 타임아웃으로 카카오 지연이 요청을 붙잡지 않도록 제한)
+    @Bean
+    public WebClient kakaoWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider kakaoConnectionProvider,
+            @Value("${kakao.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${kakao.http.response-timeout:3s}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout);
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
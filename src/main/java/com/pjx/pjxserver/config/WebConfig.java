@@ -0,0 +1,23 @@
+package com.pjx.pjxserver.config;
+
+import com.pjx.pjxserver.common.AuthKakaoIdArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AuthKakaoIdArgumentResolver authKakaoIdArgumentResolver;
+
+    public WebConfig(AuthKakaoIdArgumentResolver authKakaoIdArgumentResolver) {
+        this.authKakaoIdArgumentResolver = authKakaoIdArgumentResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authKakaoIdArgumentResolver);
+    }
+}
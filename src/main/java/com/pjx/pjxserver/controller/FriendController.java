@@ -1,7 +1,7 @@
 package com.pjx.pjxserver.controller;
 
 
-import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.AuthKakaoId;
 import com.pjx.pjxserver.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -23,21 +24,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Tag(name = "친구", description = "친구 관련 API")
 public class FriendController {
-    @Autowired
-    private JwtUtil jwtUtil;
 
     @Autowired
     private final UserService userService;
 
-    // JWT에서 kakaoId를 추출하는 공통 메서드
-    private Long extractKakaoIdFromJwt(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("Invalid or missing Authorization header");
-        }
-        String token = authHeader.substring(7); // "Bearer " 이후의 토큰만 추출
-        return Long.valueOf(jwtUtil.extractSubject(token)); // JWT의 subject에서 kakaoId 추출
-    }
-
     @Operation(
             summary = "친구 팔로우 추가",
             description = "친구 닉네임을 통해 팔로우를 추가합니다.",
@@ -59,14 +49,12 @@ public class FriendController {
     )
     @PostMapping("/{friendUserNickname}/follow")
     public ResponseEntity<Map<String, String>> followUser(
-            @RequestHeader("Authorization")
-            String authHeader,
+            @AuthKakaoId Long userKakaoId,
 
             @PathVariable
             @Parameter(description = "팔로우할 친구의 닉네임", example = "미키마우스")
             String friendUserNickname) {
 
-        Long userKakaoId = extractKakaoIdFromJwt(authHeader);
         Map<String, String> response = new HashMap<>();
         try {
             String message = userService.followUserByUserNickname(userKakaoId, friendUserNickname);
@@ -100,14 +88,12 @@ public class FriendController {
     )
     @DeleteMapping("/{friendUserNickname}/follow")
     public ResponseEntity<Map<String, String>> unfollowUser(
-            @RequestHeader("Authorization")
-            String authHeader,
+            @AuthKakaoId Long userKakaoId,
 
             @PathVariable
             @Parameter(description = "언팔로우할 친구의 닉네임", example = "미니마우스")
             String friendUserNickname) {
 
-        Long userKakaoId = extractKakaoIdFromJwt(authHeader);
         Map<String, String> response = new HashMap<>();
         try {
             String message = userService.unfollowUserByUserNickname(userKakaoId, friendUserNickname);
@@ -153,14 +139,12 @@ public class FriendController {
 
     @GetMapping("/{friendUserNickname}/is-following")
     public ResponseEntity<Map<String, Boolean>> isFollowing(
-            @RequestHeader("Authorization")
-            String authHeader,
+            @AuthKakaoId Long userKakaoId,
 
             @PathVariable
             @Parameter(description = "팔로우 여부를 확인할 친구의 닉네임", example = "도날드덕")
             String friendUserNickname) {
 
-        Long userKakaoId = extractKakaoIdFromJwt(authHeader);
         boolean isFollowing = userService.isFollowingByUserNickname(userKakaoId, friendUserNickname);
 
         Map<String, Boolean> response = new HashMap<>();
@@ -168,4 +152,111 @@ public class FriendController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "여러 사용자 팔로우 여부 확인",
+            description = "닉네임 또는 카카오 ID 목록(합쳐서 최대 100명)의 팔로우 여부를 한 번에 확인합니다. 찾을 수 없는 사용자는 notFound 에 담깁니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "팔로우 여부 확인 성공",
+                            content = @Content(mediaType = "application/json",
+                                    examples = @ExampleObject(value = """
+                            {
+                                "statuses": [
+                                    { "kakaoId": 3748591023, "userNickname": "미키마우스", "profileImageUrl": "http://...", "isFollowing": true },
+                                    { "kakaoId": 3748591024, "userNickname": "도날드덕", "profileImageUrl": null, "isFollowing": false }
+                                ],
+                                "notFound": ["구피"]
+                            }
+                            """)))
+            }
+    )
+    @GetMapping("/is-following")
+    public ResponseEntity<Map<String, Object>> areFollowing(
+            @AuthKakaoId Long userKakaoId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "팔로우 여부를 확인할 닉네임 목록", example = "미키마우스,도날드덕")
+            List<String> userNicknames,
+
+            @RequestParam(required = false)
+            @Parameter(description = "팔로우 여부를 확인할 카카오 ID 목록")
+            List<Long> kakaoIds) {
+
+        try {
+            return ResponseEntity.ok(userService.getFollowStatuses(userKakaoId, userNicknames, kakaoIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "여러 사용자 한 번에 팔로우",
+            description = "닉네임 또는 카카오 ID 목록(합쳐서 최대 100명)을 한 번에 팔로우합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 팔로우 성공",
+                            content = @Content(mediaType = "application/json",
+                                    examples = @ExampleObject(value = """
+                            {
+                                "followed": [ { "kakaoId": 3748591023, "userNickname": "미키마우스", "profileImageUrl": "http://..." } ],
+                                "alreadyFollowing": [ { "kakaoId": 3748591024, "userNickname": "도날드덕", "profileImageUrl": null } ],
+                                "notFound": ["구피"]
+                            }
+                            """)))
+            }
+    )
+    @PostMapping("/follow")
+    public ResponseEntity<Map<String, Object>> followUsers(
+            @AuthKakaoId Long userKakaoId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "팔로우할 닉네임 목록", example = "미키마우스,도날드덕")
+            List<String> userNicknames,
+
+            @RequestParam(required = false)
+            @Parameter(description = "팔로우할 카카오 ID 목록")
+            List<Long> kakaoIds) {
+
+        try {
+            return ResponseEntity.ok(userService.followUsers(userKakaoId, userNicknames, kakaoIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "여러 사용자 한 번에 언팔로우",
+            description = "닉네임 또는 카카오 ID 목록(합쳐서 최대 100명)을 한 번에 언팔로우합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 언팔로우 성공",
+                            content = @Content(mediaType = "application/json",
+                                    examples = @ExampleObject(value = """
+                            {
+                                "unfollowed": [ { "kakaoId": 3748591023, "userNickname": "미키마우스", "profileImageUrl": "http://..." } ],
+                                "notFollowing": [],
+                                "notFound": []
+                            }
+                            """)))
+            }
+    )
+    @DeleteMapping("/follow")
+    public ResponseEntity<Map<String, Object>> unfollowUsers(
+            @AuthKakaoId Long userKakaoId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "언팔로우할 닉네임 목록", example = "미키마우스,도날드덕")
+            List<String> userNicknames,
+
+            @RequestParam(required = false)
+            @Parameter(description = "언팔로우할 카카오 ID 목록")
+            List<Long> kakaoIds) {
+
+        try {
+            return ResponseEntity.ok(userService.unfollowUsers(userKakaoId, userNicknames, kakaoIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
 }
@@ -2,9 +2,11 @@ package com.pjx.pjxserver.controller;
 
 
 import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.KakaoUserInfoCache;
 import com.pjx.pjxserver.domain.User;
 import com.pjx.pjxserver.dto.KakaoCallbackRequestDto;
 import com.pjx.pjxserver.dto.KakaoTokenResponseDto;
+import com.pjx.pjxserver.dto.KakaoUserInfoResponseDto;
 import com.pjx.pjxserver.service.KakaoService;
 import com.pjx.pjxserver.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,18 +19,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.Map;
 
 @Slf4j
 @RestController
-@RequiredArgsConstructor
 @Tag(name = "카카오", description = "카카오 로그인 API")
 public class KakaoLoginController {
 
@@ -36,6 +38,18 @@ public class KakaoLoginController {
     private final KakaoService kakaoService;
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final KakaoUserInfoCache kakaoUserInfoCache;
+    private final Scheduler loginScheduler;
+
+    public KakaoLoginController(KakaoService kakaoService, UserService userService, JwtUtil jwtUtil,
+                                KakaoUserInfoCache kakaoUserInfoCache,
+                                @Qualifier("loginScheduler") Scheduler loginScheduler) {
+        this.kakaoService = kakaoService;
+        this.userService = userService;
+        this.jwtUtil = jwtUtil;
+        this.kakaoUserInfoCache = kakaoUserInfoCache;
+        this.loginScheduler = loginScheduler;
+    }
 
     @Value("${kakao.client_id}")
     private String clientId;
@@ -137,34 +151,16 @@ public class KakaoLoginController {
             @RequestParam
             @Parameter(description = "카카오 액세스 토큰")
             String accessToken) {
-        return kakaoService.getUserInfo(accessToken)
-                .flatMap(userInfo -> {
-                    // 사용자 정보 저장/업데이트
-                    Map<String, Object> result = userService.saveOrUpdateUser(
-                            userInfo.getId(),
-                            userInfo.getProperties().getNickname(), // 카카오 닉네임
-                            userInfo.getProperties().getUserNickname(), // 애플리케이션에서 설정한 닉네임
-                            userInfo.getProperties().getProfileImage() // 프로필 이미지
-                    );
-
-                    // 응답 데이터 생성
-                    String status = (String) result.get("status");
-                    String message = (String) result.get("message");
-                    User user = (User) result.get("user");
-
-                    // JWT 생성
-                    String jwtToken = jwtUtil.generateToken(Map.of(), user.getKakaoId().toString());
-
-                    // 최종 응답에 JWT 포함
-                    Map<String, Object> response = Map.of(
-                            "status", status,
-                            "message", message,
-                            "userInfo", user,
-                            "jwtToken", jwtToken
-                    );
-
-                    return Mono.just(ResponseEntity.ok(response));
-                })
+        // 같은 토큰으로 최근에 로그인했으면 카카오 호출과 사용자 저장 없이 조회만
+        KakaoUserInfoResponseDto cachedUserInfo = kakaoUserInfoCache.get(accessToken);
+        Mono<Map<String, Object>> response = cachedUserInfo != null
+                ? Mono.fromCallable(() -> loginCached(accessToken, cachedUserInfo)).subscribeOn(loginScheduler)
+                : kakaoService.getUserInfo(accessToken)
+                // 블로킹 JPA 트랜잭션과 JWT 서명은 이벤트 루프가 아닌 loginScheduler 에서 실행
+                .flatMap(userInfo -> Mono.fromCallable(() -> login(accessToken, userInfo)).subscribeOn(loginScheduler));
+
+        return response
+                .map(ResponseEntity::ok)
                 .onErrorResume(e -> {
                     // 에러 처리
                     return Mono.just(ResponseEntity.badRequest().body(Map.of(
@@ -174,4 +170,46 @@ public class KakaoLoginController {
                     )));
                 });
     }
+
+    private Map<String, Object> login(String accessToken, KakaoUserInfoResponseDto userInfo) {
+        // 사용자 정보 저장/업데이트
+        Map<String, Object> result = userService.saveOrUpdateUser(
+                userInfo.getId(),
+                userInfo.getProperties().getNickname(), // 카카오 닉네임
+                userInfo.getProperties().getUserNickname(), // 애플리케이션에서 설정한 닉네임
+                userInfo.getProperties().getProfileImage() // 프로필 이미지
+        );
+        kakaoUserInfoCache.put(accessToken, userInfo);
+
+        return toLoginResponse(result);
+    }
+
+    // 캐시된 카카오 프로필은 이미 저장된 상태이므로 사용자 조회만 (그 사이 탈퇴했으면 다시 저장)
+    private Map<String, Object> loginCached(String accessToken, KakaoUserInfoResponseDto userInfo) {
+        return userService.getUserByKakaoId(userInfo.getId())
+                .map(user -> toLoginResponse(Map.of(
+                        "status", "existing",
+                        "message", "기존 회원 정보가 업데이트되었습니다.",
+                        "user", user
+                )))
+                .orElseGet(() -> login(accessToken, userInfo));
+    }
+
+    private Map<String, Object> toLoginResponse(Map<String, Object> result) {
+        // 응답 데이터 생성
+        String status = (String) result.get("status");
+        String message = (String) result.get("message");
+        User user = (User) result.get("user");
+
+        // JWT 생성
+        String jwtToken = jwtUtil.generateToken(Map.of(), user.getKakaoId().toString());
+
+        // 최종 응답에 JWT 포함
+        return Map.of(
+                "status", status,
+                "message", message,
+                "userInfo", user,
+                "jwtToken", jwtToken
+        );
+    }
 }
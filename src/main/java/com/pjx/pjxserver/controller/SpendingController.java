@@ -1,7 +1,9 @@
 package com.pjx.pjxserver.controller;
 
-import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.AuthKakaoId;
 import com.pjx.pjxserver.domain.Spending;
+import com.pjx.pjxserver.dto.DailySpendingSummaryDto;
+import com.pjx.pjxserver.service.ImageStorageService;
 import com.pjx.pjxserver.service.SpendingGoalService;
 import com.pjx.pjxserver.service.SpendingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,27 +36,18 @@ public class SpendingController {
     private SpendingGoalService spendingGoalService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private ImageStorageService imageStorageService;
 
-    // JWT에서 kakaoId를 추출하는 공통 메서드
-    private Long extractKakaoIdFromJwt(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("Invalid or missing Authorization header");
-        }
-        String token = authHeader.substring(7); // "Bearer " 이후의 토큰만 추출
-        return Long.valueOf(jwtUtil.extractSubject(token)); // JWT의 subject에서 kakaoId 추출
-    }
+    private static final int MAX_DIRECT_UPLOAD_IMAGES = 10;
 
     @Operation(summary = "직접/AI 지출 등록 방식 중 선택", description = "사용자가 등록 방식을 선택합니다.")
     @PostMapping("/select-method")
     public ResponseEntity<Map<String, String>> selectSpendingMethod(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "사용자가 선택한 등록 방식", example = "AI_RECEIPT 또는 MANUAL")
             String method) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
-
         Map<String, String> response = new HashMap<>();
         if ("AI_RECEIPT".equals(method)) {
             response.put("nextStep", "/api/spending/add/receipt");
@@ -72,7 +65,7 @@ public class SpendingController {
     @Operation(summary = "직접 - 지출 항목 생성", description = "사용자가 직접 지출 항목을 생성합니다.")
     @PostMapping(value = "/create", consumes = "multipart/form-data")
     public ResponseEntity<Map<String, Object>> createSpending(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "지출 날짜 (YYYY-MM-DD 형식)", example = "2024-11-24") String date,
             @RequestParam
@@ -84,8 +77,6 @@ public class SpendingController {
             @RequestParam(required = false)
             @Parameter(description = "지출 관련 이미지") List<MultipartFile> images) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
-
         LocalDate spendingDate = LocalDate.parse(date);
 
         try {
@@ -102,17 +93,56 @@ public class SpendingController {
         }
     }
 
+    @Operation(summary = "이미지 직접 업로드 URL 발급", description = "S3 에 바로 PUT 할 수 있는 presigned URL 을 발급합니다. 업로드 후 /images/confirm 으로 지출에 연결합니다.")
+    @PostMapping("/images/upload-urls")
+    public ResponseEntity<Map<String, Object>> createImageUploadUrls(
+            @AuthKakaoId Long kakaoId,
+            @RequestParam
+            @Parameter(description = "업로드할 파일 이름 목록", example = "receipt.jpg") List<String> fileNames) {
+
+        if (fileNames.isEmpty() || fileNames.size() > MAX_DIRECT_UPLOAD_IMAGES) {
+            return ResponseEntity.badRequest().body(Map.of("message", "이미지는 1~" + MAX_DIRECT_UPLOAD_IMAGES + "개까지 업로드할 수 있습니다."));
+        }
+
+        List<Map<String, Object>> uploads = fileNames.stream()
+                .map(fileName -> imageStorageService.presignUpload("spending/" + kakaoId + "/", fileName))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(Map.of("uploads", uploads));
+    }
+
+    @Operation(summary = "직접 업로드한 이미지 연결", description = "presigned URL 로 업로드를 마친 이미지 키를 지출 항목에 추가합니다.")
+    @PostMapping("/images/confirm")
+    public ResponseEntity<Map<String, Object>> confirmImageUploads(
+            @AuthKakaoId Long kakaoId,
+            @RequestParam
+            @Parameter(description = "지출 항목 ID", example = "1") Long spendingId,
+            @RequestParam
+            @Parameter(description = "업로드를 마친 이미지 키 목록") List<String> keys) {
+
+        try {
+            Spending spending = spendingService.attachUploadedImages(kakaoId, spendingId, keys);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("spendingId", spending.getId());
+            response.put("images", spending.getImages());
+            response.put("message", "이미지가 지출 항목에 추가되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "직접 - 지출 항목 수정", description = "사용자가 직접 지출 항목의 세부 내용을 수정합니다.")
     @PutMapping("/update")
     public ResponseEntity<Map<String, Object>> updateSpending(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam Long spendingId,
             @RequestParam(required = false) BigDecimal amount,
             @RequestParam(required = false) String description,
             @RequestParam(required = false) String note,
             @RequestParam(required = false) List<String> images) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         Spending updatedSpending = spendingService.updateSpending(spendingId, amount, description, note, images);
 
         Map<String, Object> response = new HashMap<>();
@@ -125,12 +155,11 @@ public class SpendingController {
     @Operation(summary = "직접 - 지출 항목 삭제", description = "사용자가 특정 지출 항목을 삭제합니다.")
     @DeleteMapping("/delete")
     public ResponseEntity<Map<String, String>> deleteSpending(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "삭제할 지출 항목의 ID", example = "1")
             Long spendingId) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         spendingService.deleteSpending(spendingId);
 
         Map<String, String> response = new HashMap<>();
@@ -142,12 +171,11 @@ public class SpendingController {
     @Operation(summary = "직접 - 지출 항목 세부 정보 조회", description = "특정 지출 항목의 세부 정보를 조회합니다.")
     @GetMapping("/detail")
     public ResponseEntity<Map<String, Object>> getSpendingDetail(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "지출 항목 ID", example = "1")
             Long spendingId) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         Spending spending = spendingService.getSpendingDetail(spendingId)
                 .orElseThrow(() -> new RuntimeException("Spending not found"));
 
@@ -160,12 +188,11 @@ public class SpendingController {
     @Operation(summary = "홈3 - 해당하는 날을 눌렀을때 날짜를 보내주면 그날에 대한 지출 목록 리스트를 보내주는 POST method api", description = "특정 날짜의 지출 내역을 리스트 형식으로 조회합니다.")
     @PostMapping("/list")
     public ResponseEntity<Map<String, Object>> getSpendingListByDate(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "조회할 날짜 (YYYY-MM-DD 형식)", example = "2024-11-24")
             String date) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         LocalDate spendingDate = LocalDate.parse(date);
 
         List<Spending> spendingList = spendingService.getSpendingListByDate(kakaoId, spendingDate);
@@ -176,6 +203,7 @@ public class SpendingController {
                     spendingInfo.put("description", spending.getDescription());
                     spendingInfo.put("amount", spending.getAmount());
                     spendingInfo.put("images", spending.getImages());
+                    spendingInfo.put("thumbnails", spending.getThumbnailUrls());
                     spendingInfo.put("note", spending.getNote());
                     return spendingInfo;
                 })
@@ -211,7 +239,7 @@ public class SpendingController {
 @Operation(summary = "이번달 총 지출 조회")
 @PostMapping("/current")
 public ResponseEntity<Map<String, Object>> getCurrentSpendingPost(
-        @RequestHeader("Authorization") String authHeader,
+        @AuthKakaoId Long kakaoId,
         @RequestParam
         @Parameter(description = "조회할 월 (YYYY-MM 형식)", example = "2024-11")
         String month) {
@@ -220,7 +248,6 @@ public ResponseEntity<Map<String, Object>> getCurrentSpendingPost(
         throw new IllegalArgumentException("Month must be provided as a query parameter.");
     }
 
-    Long kakaoId = extractKakaoIdFromJwt(authHeader);
     LocalDate monthDate = LocalDate.parse(month + "-01"); // "YYYY-MM" 형식 처리
     BigDecimal currentSpending = spendingGoalService.getCurrentSpending(kakaoId, monthDate);
 
@@ -231,6 +258,24 @@ public ResponseEntity<Map<String, Object>> getCurrentSpendingPost(
     return ResponseEntity.ok(response);
 }
 
+    @Operation(summary = "월 달력 조회", description = "해당 월의 일별 지출 합계, 지출 건수, 리액션을 한 번에 조회합니다. 지출이나 리액션이 없는 날은 생략됩니다.")
+    @PostMapping("/calendar")
+    public ResponseEntity<Map<String, Object>> getMonthlyCalendar(
+            @AuthKakaoId Long kakaoId,
+            @RequestParam
+            @Parameter(description = "조회할 월 (YYYY-MM 형식)", example = "2024-11")
+            String month) {
+
+        LocalDate monthDate = LocalDate.parse(month + "-01"); // "YYYY-MM" 형식 처리
+        List<DailySpendingSummaryDto> days = spendingService.getMonthlyCalendar(kakaoId, monthDate);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("month", month);
+        response.put("days", days);
+
+        return ResponseEntity.ok(response);
+    }
+
 
 //    // 특정 날짜의 지출 항목을 추가하는 POST 메서드
 //    @Operation(summary = "특정 날짜의 지출 항목 추가")
@@ -247,11 +292,25 @@ public ResponseEntity<Map<String, Object>> getCurrentSpendingPost(
 //        return ResponseEntity.ok(newExpense);
 //    }
 
+    @Operation(summary = "친구 지출 피드 조회", description = "팔로우한 친구들의 지출을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursorDate, nextCursorId 를 그대로 넘겨 조회합니다.")
+    @GetMapping("/friends/feed")
+    public ResponseEntity<Map<String, Object>> getFriendSpendingFeed(
+            @AuthKakaoId Long kakaoId,
+            @RequestParam(required = false)
+            @Parameter(description = "이전 페이지 마지막 항목의 날짜 (YYYY-MM-DD 형식)", example = "2024-11-24") String cursorDate,
+            @RequestParam(required = false)
+            @Parameter(description = "이전 페이지 마지막 항목의 지출 ID", example = "120") Long cursorId,
+            @RequestParam(required = false)
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20") Integer size) {
+
+        LocalDate cursor = (cursorDate == null || cursorDate.isEmpty()) ? null : LocalDate.parse(cursorDate);
+        return ResponseEntity.ok(spendingService.getFriendSpendingSummary(kakaoId, cursor, cursorId, size));
+    }
+
     // 오늘의 지출을 조회하는 GET 메서드
     @Operation(summary = "오늘 지출 조회")
     @GetMapping("/today")
-    public ResponseEntity<Map<String, Object>> getTodaySpending(@RequestHeader("Authorization") String authHeader) {
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
+    public ResponseEntity<Map<String, Object>> getTodaySpending(@AuthKakaoId Long kakaoId) {
         BigDecimal todaySpending = spendingGoalService.getTodaySpending(kakaoId);
 
         Map<String, Object> response = new HashMap<>();
@@ -265,12 +324,11 @@ public ResponseEntity<Map<String, Object>> getCurrentSpendingPost(
     @Operation(summary = "특정 날짜의 지출 조회 YYYY-MM-DD형식으로")
     @GetMapping("/date")
     public ResponseEntity<Map<String, Object>> getSpendingByDate(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "조회할 날짜 (YYYY-MM-DD 형식)", example = "2024-11-24")
             String date) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         LocalDate specificDate = LocalDate.parse(date);
         BigDecimal spendingByDate = spendingGoalService.getSpendingByDate(kakaoId, specificDate);
 
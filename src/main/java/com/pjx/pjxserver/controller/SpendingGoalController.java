@@ -1,6 +1,6 @@
 package com.pjx.pjxserver.controller;
 
-import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.AuthKakaoId;
 import com.pjx.pjxserver.domain.Expense;
 import com.pjx.pjxserver.domain.SpendingGoal;
 import com.pjx.pjxserver.service.SpendingGoalService;
@@ -27,18 +27,6 @@ public class SpendingGoalController {
     @Autowired
     private SpendingGoalService spendingService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
-    // JWT에서 kakaoId를 추출하는 공통 메서드
-    private Long extractKakaoIdFromJwt(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("Invalid or missing Authorization header");
-        }
-        String token = authHeader.substring(7); // "Bearer " 이후의 토큰만 추출
-        return Long.valueOf(jwtUtil.extractSubject(token)); // JWT의 subject에서 kakaoId 추출
-    }
-
     // 유저가 한달 목표를 설정하는 PUT 메서드
     @Operation(summary = "홈 - 한 달 목표 설정", description = "유저가 한달 목표를 설정하는 PUT method api",
             responses = {
@@ -70,13 +58,11 @@ public class SpendingGoalController {
     )
     @PutMapping("/goal")
     public ResponseEntity<SpendingGoal> setMonthlyGoal(
-            @RequestHeader("Authorization")
-            String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "사용자가 설정할 한 달 목표 금액", example = "500000")
             BigDecimal goal) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         SpendingGoal monthlyGoal = spendingService.setMonthlyGoal(kakaoId, goal);
         return ResponseEntity.ok(monthlyGoal);
     }
@@ -102,9 +88,7 @@ public class SpendingGoalController {
             })
     @GetMapping("/goal")
     public ResponseEntity<Map<String, Object>> getMonthlyGoal(
-            @RequestHeader("Authorization")
-            String authHeader) {
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
+            @AuthKakaoId Long kakaoId) {
         BigDecimal monthlyGoal = spendingService.getMonthlyGoal(kakaoId);
 
         Map<String, Object> response = new HashMap<>();
@@ -143,14 +127,12 @@ public class SpendingGoalController {
             })
     @PostMapping("/goal")
     public ResponseEntity<SpendingGoal> updateMonthlyGoal(
-            @RequestHeader("Authorization")
-            String authHeader,
+            @AuthKakaoId Long kakaoId,
 
             @RequestParam
             @Parameter(description = "사용자가 수정할 한 달 목표 금액", example = "600000")
             BigDecimal newGoal) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         SpendingGoal updatedGoal = spendingService.updateMonthlyGoal(kakaoId, newGoal);
         return ResponseEntity.ok(updatedGoal);
     }
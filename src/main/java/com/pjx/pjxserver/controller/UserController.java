@@ -1,13 +1,11 @@
 package com.pjx.pjxserver.controller;
 
-import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.AuthKakaoId;
 import com.pjx.pjxserver.dto.NicknameCheckResponseDto;
 import com.pjx.pjxserver.dto.OnboardingRequestDto;
 import com.pjx.pjxserver.dto.UserProfileRequestDto;
+import com.pjx.pjxserver.service.ImageStorageService;
 import com.pjx.pjxserver.service.UserService;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.security.SignatureException;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -48,20 +46,11 @@ public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
-    @Autowired
-    private JwtUtil jwtUtil;
     @Autowired
     private final UserService userService;
 
+    private final ImageStorageService imageStorageService;
 
-    // JWT에서 kakaoId를 추출하는 공통 메서드
-    private Long extractKakaoIdFromJwt(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("Invalid or missing Authorization header");
-        }
-        String token = authHeader.substring(7); // "Bearer " 이후의 토큰만 추출
-        return Long.valueOf(jwtUtil.extractSubject(token)); // JWT의 subject에서 kakaoId 추출
-    }
 
 
     @Operation(
@@ -75,8 +64,7 @@ public class UserController {
             }
     )
     @GetMapping("/profile")
-    public ResponseEntity<String> getProfileImage(@RequestHeader("Authorization") String authHeader) {
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
+    public ResponseEntity<String> getProfileImage(@AuthKakaoId Long kakaoId) {
 
         String profileImageUrl = userService.getProfileImageUrl(kakaoId);
         if (profileImageUrl == null) {
@@ -98,15 +86,36 @@ public class UserController {
     )
     @PostMapping(value = "/profile/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<String> uploadProfile(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam("profileImage") MultipartFile profileImage) throws IOException {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         UserProfileRequestDto requestDto = new UserProfileRequestDto(kakaoId, profileImage);
         String profileImageUrl = userService.uploadProfileImage(requestDto);
         return ResponseEntity.ok(profileImageUrl);
     }
 
+    @Operation(summary = "프로필 이미지 직접 업로드 URL 발급", description = "S3 에 바로 PUT 할 수 있는 presigned URL 을 발급합니다. 업로드 후 /profile/confirm 으로 프로필에 연결합니다.")
+    @PostMapping("/profile/upload-url")
+    public ResponseEntity<Map<String, Object>> createProfileUploadUrl(
+            @AuthKakaoId Long kakaoId,
+            @RequestParam @Parameter(description = "업로드할 파일 이름", example = "profile.png") String fileName) {
+
+        return ResponseEntity.ok(imageStorageService.presignUpload("profiles/" + kakaoId + "/", fileName));
+    }
+
+    @Operation(summary = "직접 업로드한 프로필 이미지 연결", description = "presigned URL 로 업로드를 마친 이미지 키를 프로필 이미지로 설정합니다.")
+    @PostMapping("/profile/confirm")
+    public ResponseEntity<String> confirmProfileUpload(
+            @AuthKakaoId Long kakaoId,
+            @RequestParam @Parameter(description = "업로드를 마친 이미지 키") String key) {
+
+        try {
+            return ResponseEntity.ok(userService.confirmProfileImage(kakaoId, key));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(
             summary = "마이페이지에서 닉네임 수정",
             description = "사용자의 닉네임을 수정합니다.",
@@ -126,11 +135,10 @@ public class UserController {
     )
     @PatchMapping("/nickname")
     public ResponseEntity<Map<String, Object>> updateNickname(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthKakaoId Long kakaoId,
             @RequestParam
             @Parameter(description = "새로운 닉네임", example = "헬로키티") String newNickname) {
 
-        Long kakaoId = extractKakaoIdFromJwt(authHeader);
         Map<String, Object> response = new HashMap<>();
         try {
             String message = userService.updateNickname(kakaoId, newNickname);
@@ -199,6 +207,46 @@ public class UserController {
         }
     }
 
+    @Operation(
+            summary = "닉네임 검색 (자동완성)",
+            description = "카카오 닉네임 또는 앱 닉네임에 검색어가 포함된 사용자를 완전 일치, 접두 일치, 부분 일치 순으로 반환합니다. 최대 100명까지 페이지 단위로 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "검색 성공",
+                            content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                            {
+                                "users": [
+                                    { "kakaoId": 3748591023, "userNickname": "미키", "profileImageUrl": "http://...", "nickname": "카카오닉네임" },
+                                    { "kakaoId": 3748591024, "userNickname": "미키마우스", "profileImageUrl": null, "nickname": "디즈니" }
+                                ],
+                                "page": 0,
+                                "size": 20,
+                                "hasNext": false
+                            }
+                            """))),
+                    @ApiResponse(responseCode = "400", description = "검색어 없음",
+                            content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                            {
+                                "message": "검색어를 입력하세요."
+                            }
+                            """)))
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchUsers(
+            @RequestParam
+            @Parameter(description = "검색어", example = "미키") String query,
+            @RequestParam(required = false)
+            @Parameter(description = "페이지 번호 (0부터)", example = "0") Integer page,
+            @RequestParam(required = false)
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)", example = "20") Integer size) {
+
+        try {
+            return ResponseEntity.ok(userService.searchUsers(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     @Operation(
             summary = "온보딩 닉네임 설정",
             description = "사용자의 닉네임을 설정하고 온보딩을 완료합니다."
@@ -245,19 +293,9 @@ public class UserController {
     @PostMapping("/api/onboarding")
     public ResponseEntity<Map<String, Object>> onboardUser(
             @RequestBody OnboardingRequestDto onboardingRequestDto,
-            @RequestHeader("Authorization") String authHeader) {
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return ResponseEntity.badRequest().body(Map.of(
-                    "status", 400,
-                    "message", "권한 문제"
-            ));
-        }
+            @AuthKakaoId Long kakaoId) {
 
         try {
-            String token = authHeader.substring(7);
-            Long kakaoId = Long.valueOf(jwtUtil.extractSubject(token));
-
             // 사용자 온보딩 처리
             User user = userService.onboardUser(kakaoId, onboardingRequestDto);
 
@@ -323,21 +361,8 @@ public class UserController {
             )
     })
     @GetMapping("/me")
-    public ResponseEntity<Map<String, Object>> getUserInfoFromJwt(@RequestHeader("Authorization") String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            logger.warn("Invalid or missing Authorization header");
-            return ResponseEntity.badRequest().body(Map.of(
-                    "status", 400,
-                    "message", "유효하지 않는 토큰"
-            ));
-        }
-
-        String token = authHeader.substring(7); // "Bearer " 이후의 토큰만 추출
+    public ResponseEntity<Map<String, Object>> getUserInfoFromJwt(@AuthKakaoId Long kakaoId) {
         try {
-            // JWT 유효성 검증 및 사용자 ID 추출
-            String kakaoIdStr = jwtUtil.extractSubject(token); // JWT의 subject에서 카카오 ID 추출
-            Long kakaoId = Long.valueOf(kakaoIdStr);
-
             // 카카오 ID로 사용자 정보 조회
             User user = userService.getUserByKakaoId(kakaoId)
                     .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자"));
@@ -349,37 +374,14 @@ public class UserController {
                             "kakaoId", user.getKakaoId(),
                             "userName", user.getNickname(),
                             "userNickname", user.getUserNickname() != null ? user.getUserNickname() : "",
-                            "profileImageUrl", user.getProfileImageUrl()
+                            "profileImageUrl", user.getProfileImageUrl(),
+                            "profileThumbnailUrl", user.getProfileThumbnailUrl() != null ? user.getProfileThumbnailUrl() : user.getProfileImageUrl()
                     )
             );
 
 
             return ResponseEntity.ok(response);
 
-        } catch (NumberFormatException e) {
-            logger.error("카카오 ID 변환 오류: ", e);
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of(
-                    "status", 400,
-                    "message", "카카오 ID 형식이 올바르지 않습니다."
-            ));
-        } catch (ExpiredJwtException e) {
-            logger.error("JWT 만료: ", e);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
-                    "status", 401,
-                    "message", "JWT가 만료되었습니다."
-            ));
-        } catch (SignatureException e) {
-            logger.error("JWT 서명 오류: ", e);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
-                    "status", 401,
-                    "message", "JWT 서명이 유효하지 않습니다."
-            ));
-        } catch (MalformedJwtException e) {
-            logger.error("JWT 형식 오류: ", e);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
-                    "status", 401,
-                    "message", "JWT 형식이 올바르지 않습니다."
-            ));
         } catch (RuntimeException e) {
             logger.error("사용자 조회 오류: ", e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
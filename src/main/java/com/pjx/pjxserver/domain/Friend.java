@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "friend")
+@Table(name = "friend", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_friend_user_friend", columnNames = {"user_id", "friend_id"})
+})
 public class Friend {
 
     @Id
@@ -0,0 +1,38 @@
+package com.pjx.pjxserver.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 업로드한 이미지 내용(SHA-256) -> S3 키 색인, 같은 내용은 한 객체를 공유하고 참조 수가 0 이 되면 삭제
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "image_object", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_image_object_content_hash", columnNames = "content_hash"),
+        @UniqueConstraint(name = "uk_image_object_s3_key", columnNames = "s3_key")
+})
+public class ImageObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // 이미지 내용의 SHA-256 (hex)
+
+    @Column(name = "s3_key", nullable = false)
+    private String s3Key;
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount; // 이 객체를 쓰는 지출 이미지/프로필 수
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
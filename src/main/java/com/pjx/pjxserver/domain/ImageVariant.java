@@ -0,0 +1,24 @@
+package com.pjx.pjxserver.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 원본 이미지와 서버에서 만든 축소본 URL
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariant {
+
+    @Column(name = "original_url", nullable = false)
+    private String originalUrl;
+
+    @Column(name = "thumbnail_url", nullable = false)
+    private String thumbnailUrl; // 목록용 작은 썸네일
+
+    @Column(name = "medium_url", nullable = false)
+    private String mediumUrl; // 상세 화면용 중간 크기
+}
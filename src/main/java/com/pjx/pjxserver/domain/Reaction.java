@@ -10,6 +10,9 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(name = "reaction", indexes = {
+        @Index(name = "idx_reaction_kakao_id_date", columnList = "kakao_id, date")
+})
 public class Reaction {
 
     @Id
@@ -5,18 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "spending")
+@Table(name = "spending", indexes = {
+        @Index(name = "idx_spending_kakao_id_date", columnList = "kakao_id, date")
+})
 public class Spending {
 
     @Id
@@ -34,9 +39,24 @@ public class Spending {
 
     private String note; // 추가 메모
 
+    // 목록 조회 시 지출 건마다 select 하지 않고 IN 절로 한 번에 초기화
     @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "spending_images", joinColumns = @JoinColumn(name = "spending_id"),
+            indexes = @Index(name = "idx_spending_images_images", columnList = "images"))
     private List<String> images; // 이미지 파일 경로 또는 URL 목록
 
+    // 업로드 후 비동기로 생성되는 축소본 (생성 전이거나 실패한 이미지는 항목 없음)
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "spending_image_variants", joinColumns = @JoinColumn(name = "spending_id"), indexes = {
+            @Index(name = "idx_spending_image_variants_original_url", columnList = "original_url"),
+            @Index(name = "idx_spending_image_variants_thumbnail_url", columnList = "thumbnail_url"),
+            @Index(name = "idx_spending_image_variants_medium_url", columnList = "medium_url")
+    })
+    @Builder.Default
+    private List<ImageVariant> imageVariants = new ArrayList<>();
+
     @Column(nullable = false)
     private LocalDate date; // 지출 날짜
 
@@ -45,6 +65,7 @@ public class Spending {
     private User user; // 지출을 기록한 사용자
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "spending_reactions", joinColumns = @JoinColumn(name = "spending_id"))
     @MapKeyColumn(name = "kakao_id")
     @Column(name = "reaction_type")
@@ -64,6 +85,37 @@ public class Spending {
 
     public void setImages(List<String> images) {
         this.images = images;
+        // 더 이상 쓰지 않는 이미지의 축소본 정보 제거
+        this.imageVariants.removeIf(variant -> !images.contains(variant.getOriginalUrl()));
+    }
+
+    // 현재 이미지에 해당하는 축소본만 추가 (생성 중에 이미지가 바뀐 경우 무시)
+    public void addImageVariants(List<ImageVariant> variants) {
+        for (ImageVariant variant : variants) {
+            if (images.contains(variant.getOriginalUrl()) && findVariant(variant.getOriginalUrl()) == null) {
+                this.imageVariants.add(variant);
+            }
+        }
+    }
+
+    // 목록 화면용 이미지 URL (썸네일이 아직 없으면 원본)
+    public List<String> getThumbnailUrls() {
+        if (images == null) {
+            return List.of();
+        }
+        return images.stream()
+                .map(url -> {
+                    ImageVariant variant = findVariant(url);
+                    return variant != null ? variant.getThumbnailUrl() : url;
+                })
+                .toList();
+    }
+
+    private ImageVariant findVariant(String originalUrl) {
+        return imageVariants.stream()
+                .filter(variant -> Objects.equals(variant.getOriginalUrl(), originalUrl))
+                .findFirst()
+                .orElse(null);
     }
 
     // 리액션 추가 메소드
@@ -0,0 +1,37 @@
+package com.pjx.pjxserver.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 사용자별 일일 지출 합계 (Spending 생성/수정/삭제 시 같은 트랜잭션에서 갱신)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "spending_daily_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_spending_daily_summary_kakao_id_date", columnNames = {"kakao_id", "date"}))
+public class SpendingDailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long kakaoId; // 사용자 식별을 위한 Kakao ID
+
+    @Column(nullable = false)
+    private LocalDate date; // 지출 날짜
+
+    @Column(nullable = false)
+    private BigDecimal totalAmount; // 해당 날짜의 지출 합계
+
+    @Column(nullable = false)
+    private Long spendingCount; // 해당 날짜의 지출 건수
+}
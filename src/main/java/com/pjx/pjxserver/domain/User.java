@@ -2,6 +2,7 @@ package com.pjx.pjxserver.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Getter
@@ -9,7 +10,14 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user")
+@BatchSize(size = 100) // Spending.user(EAGER) 로딩 시 작성자별 select 대신 IN 절로 묶어서 조회
+@Table(name = "user", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_user_nickname", columnNames = "user_nickname")
+}, indexes = {
+        @Index(name = "idx_user_profile_image_url", columnList = "profile_image_url"),
+        @Index(name = "idx_user_profile_thumbnail_url", columnList = "profile_thumbnail_url"),
+        @Index(name = "idx_user_profile_medium_url", columnList = "profile_medium_url")
+})
 public class User {
 
     @Id
@@ -26,4 +34,9 @@ public class User {
     private String userNickname; // 애플리케이션 닉네임
 
     private String profileImageUrl;
+
+    // 업로드한 프로필 이미지의 축소본 (카카오 프로필 URL 이거나 생성 전이면 null)
+    private String profileThumbnailUrl;
+
+    private String profileMediumUrl;
 }
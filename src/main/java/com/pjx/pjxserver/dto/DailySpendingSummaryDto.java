@@ -0,0 +1,16 @@
+package com.pjx.pjxserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 월 달력의 하루 칸 (지출 합계, 지출 건수, 그날의 리액션)
+@Getter
+@AllArgsConstructor
+public class DailySpendingSummaryDto {
+    private int day;
+    private BigDecimal total;
+    private long count;
+    private String reactionType;
+}
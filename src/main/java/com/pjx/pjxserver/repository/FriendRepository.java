@@ -3,8 +3,11 @@ package com.pjx.pjxserver.repository;
 import com.pjx.pjxserver.domain.Friend;
 import com.pjx.pjxserver.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +26,31 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     // 두 사용자가 친구 관계인지 확인
     boolean existsByUser_KakaoIdAndFriend_KakaoId(Long userKakaoId, Long friendKakaoId);
+
+    // 확인 후 저장 대신 한 문장으로 팔로우 (uk_friend_user_friend 로 중복은 무시)
+    // 1 이면 새로 팔로우, 0 이면 이미 팔로우 중이거나 사용자가 없음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend (user_id, friend_id) " +
+            "SELECT u.id, f.id FROM user u, user f WHERE u.kakao_id = :userKakaoId AND f.kakao_id = :friendKakaoId",
+            nativeQuery = true)
+    int insertIgnore(@Param("userKakaoId") Long userKakaoId, @Param("friendKakaoId") Long friendKakaoId);
+
+    // 주어진 사용자 중 이미 팔로우 중인 사용자의 kakaoId
+    @Query("SELECT f.friend.kakaoId FROM Friend f WHERE f.user.kakaoId = :userKakaoId AND f.friend.kakaoId IN :friendKakaoIds")
+    List<Long> findFollowingKakaoIdsIn(@Param("userKakaoId") Long userKakaoId,
+                                       @Param("friendKakaoIds") Collection<Long> friendKakaoIds);
+
+    // 여러 사용자를 한 문장으로 팔로우 (이미 팔로우 중인 관계는 무시, 새로 추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend (user_id, friend_id) " +
+            "SELECT u.id, f.id FROM user u, user f WHERE u.kakao_id = :userKakaoId AND f.kakao_id IN (:friendKakaoIds)",
+            nativeQuery = true)
+    int insertIgnoreAll(@Param("userKakaoId") Long userKakaoId, @Param("friendKakaoIds") Collection<Long> friendKakaoIds);
+
+    // 여러 사용자를 한 문장으로 언팔로우 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM friend WHERE user_id = (SELECT u.id FROM user u WHERE u.kakao_id = :userKakaoId) " +
+            "AND friend_id IN (SELECT f.id FROM user f WHERE f.kakao_id IN (:friendKakaoIds))",
+            nativeQuery = true)
+    int deleteAllByKakaoIds(@Param("userKakaoId") Long userKakaoId, @Param("friendKakaoIds") Collection<Long> friendKakaoIds);
 }
@@ -0,0 +1,45 @@
+package com.pjx.pjxserver.repository;
+
+import com.pjx.pjxserver.domain.ImageObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+    Optional<ImageObject> findByContentHash(String contentHash);
+
+    @Query("SELECT i.s3Key FROM ImageObject i WHERE i.s3Key IN :s3Keys")
+    List<String> findS3KeysIn(@Param("s3Keys") Collection<String> s3Keys);
+
+    // 같은 내용이 이미 등록되어 있으면 참조 수 증가 (갱신된 행 수 반환, 0이면 새로 업로드해야 함)
+    @Modifying
+    @Query("UPDATE ImageObject i SET i.refCount = i.refCount + 1 WHERE i.contentHash = :contentHash")
+    int incrementRefCountByContentHash(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query("UPDATE ImageObject i SET i.refCount = i.refCount + 1 WHERE i.s3Key = :s3Key")
+    int incrementRefCountByS3Key(@Param("s3Key") String s3Key);
+
+    // 동시에 같은 내용이 처음 업로드된 경우 먼저 들어간 행에 참조만 더함
+    @Modifying
+    @Query(value = "INSERT INTO image_object (content_hash, s3_key, ref_count, created_at) " +
+            "VALUES (:contentHash, :s3Key, 1, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int upsert(@Param("contentHash") String contentHash, @Param("s3Key") String s3Key);
+
+    @Modifying
+    @Query("UPDATE ImageObject i SET i.refCount = i.refCount - 1 WHERE i.s3Key = :s3Key AND i.refCount > 0")
+    int decrementRefCount(@Param("s3Key") String s3Key);
+
+    // 그 사이 다시 참조되지 않았을 때만 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM ImageObject i WHERE i.s3Key = :s3Key AND i.refCount = 0")
+    int deleteUnreferenced(@Param("s3Key") String s3Key);
+}
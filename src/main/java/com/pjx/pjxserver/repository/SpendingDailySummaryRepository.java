@@ -0,0 +1,43 @@
+package com.pjx.pjxserver.repository;
+
+import com.pjx.pjxserver.domain.SpendingDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SpendingDailySummaryRepository extends JpaRepository<SpendingDailySummary, Long> {
+    Optional<SpendingDailySummary> findByKakaoIdAndDate(Long kakaoId, LocalDate date);
+
+    List<SpendingDailySummary> findAllByKakaoIdAndDateBetween(Long kakaoId, LocalDate startDate, LocalDate endDate);
+
+    // 한 달치 합계는 최대 31개 행만 더하므로 지출 건수와 무관
+    @Query("SELECT COALESCE(SUM(r.totalAmount), 0) FROM SpendingDailySummary r WHERE r.kakaoId = :kakaoId AND r.date BETWEEN :startDate AND :endDate")
+    BigDecimal sumTotalAmountByKakaoIdAndDateBetween(@Param("kakaoId") Long kakaoId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    // (kakao_id, date) 행이 없으면 만들고 있으면 증감분을 더함 (한 문장이라 같은 날 첫 지출이 동시에 들어와도 충돌 없음)
+    @Modifying
+    @Query(value = "INSERT INTO spending_daily_summary (kakao_id, date, total_amount, spending_count) " +
+            "VALUES (:kakaoId, :date, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + :amount, spending_count = spending_count + :count",
+            nativeQuery = true)
+    int upsert(@Param("kakaoId") Long kakaoId,
+                     @Param("date") LocalDate date,
+                     @Param("amount") BigDecimal amount,
+                     @Param("count") Long count);
+
+    // spending 테이블 전체를 다시 집계해서 채움 (backfill)
+    @Modifying
+    @Query("INSERT INTO SpendingDailySummary (kakaoId, date, totalAmount, spendingCount) " +
+            "SELECT s.kakaoId, s.date, SUM(s.amount), COUNT(s) FROM Spending s GROUP BY s.kakaoId, s.date")
+    int insertAllFromSpending();
+}
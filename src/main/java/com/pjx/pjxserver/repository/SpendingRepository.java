@@ -1,21 +1,33 @@
 package com.pjx.pjxserver.repository;
 
 import com.pjx.pjxserver.domain.Spending;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SpendingRepository extends JpaRepository<Spending, Long> {
-    // 특정 사용자의 친구 ID 목록을 기반으로 지출 내역 조회
-//    List<Spending> findByUserIdIn(List<Long> userIds);
+    // 친구 지출 피드 첫 페이지 (Friend 와 조인하므로 친구 ID 목록을 IN 절로 넘기지 않음)
+    @Query("SELECT s FROM Spending s JOIN Friend f ON f.friend.kakaoId = s.kakaoId " +
+            "WHERE f.user.kakaoId = :kakaoId " +
+            "ORDER BY s.date DESC, s.id DESC")
+    List<Spending> findFriendFeed(@Param("kakaoId") Long kakaoId, Pageable pageable);
 
-    @Query("SELECT s FROM Spending s WHERE s.kakaoId IN :kakaoIds")
-    List<Spending> findByKakaoIdIn(List<Long> kakaoIds);
+    // 친구 지출 피드 다음 페이지: (date, id) 커서보다 오래된 항목만 조회하는 keyset 페이지네이션
+    @Query("SELECT s FROM Spending s JOIN Friend f ON f.friend.kakaoId = s.kakaoId " +
+            "WHERE f.user.kakaoId = :kakaoId " +
+            "AND (s.date < :cursorDate OR (s.date = :cursorDate AND s.id < :cursorId)) " +
+            "ORDER BY s.date DESC, s.id DESC")
+    List<Spending> findFriendFeedAfter(@Param("kakaoId") Long kakaoId,
+                                       @Param("cursorDate") LocalDate cursorDate,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
 
     List<Spending> findByKakaoIdAndDate(Long kakaoId, LocalDate date);
 
@@ -23,4 +35,11 @@ public interface SpendingRepository extends JpaRepository<Spending, Long> {
     List<Spending> findAllByKakaoIdAndDateBetween(@Param("kakaoId") Long kakaoId,
                                                   @Param("startDate") LocalDate startDate,
                                                   @Param("endDate") LocalDate endDate);
+
+    // 주어진 URL 중 지출 이미지(원본, 축소본)로 참조되고 있는 것
+    @Query(value = "SELECT images FROM spending_images WHERE images IN (:urls) " +
+            "UNION SELECT original_url FROM spending_image_variants WHERE original_url IN (:urls) " +
+            "UNION SELECT thumbnail_url FROM spending_image_variants WHERE thumbnail_url IN (:urls) " +
+            "UNION SELECT medium_url FROM spending_image_variants WHERE medium_url IN (:urls)", nativeQuery = true)
+    List<String> findReferencedImageUrls(@Param("urls") Collection<String> urls);
 }
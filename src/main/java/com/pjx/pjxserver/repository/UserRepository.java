@@ -1,22 +1,44 @@
 package com.pjx.pjxserver.repository;
 
 import com.pjx.pjxserver.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByNickname(String nickname);
     Optional<User> findByKakaoId(Long kakaoId);
-    List<User> findByNicknameContaining(String nickname);
+
+    // 닉네임 검색 색인을 다시 만들 때 id 순서로 페이지 단위 조회
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
     boolean existsByNickname(String nickname);
 
 
     Optional<User> findByUserNickname(String userNickname);
+
+    // 여러 사용자를 IN 한 번으로 조회 (일괄 팔로우/팔로우 여부 확인)
+    List<User> findByUserNicknameIn(Collection<String> userNicknames);
+    List<User> findByKakaoIdIn(Collection<Long> kakaoIds);
+
+    // 일괄 팔로우/언팔로우 동안 호출한 사용자 행을 잠가 같은 사용자의 요청을 차례로 처리
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.kakaoId = :kakaoId")
+    Optional<User> findByKakaoIdForUpdate(@Param("kakaoId") Long kakaoId);
+
     boolean existsByUserNickname(String userNickname); // 중복 여부 체크
+    long countByUserNicknameIsNotNull();
 
-    
+    // 주어진 URL 중 프로필 이미지(원본, 축소본)로 참조되고 있는 것
+    @Query("SELECT u.profileImageUrl FROM User u WHERE u.profileImageUrl IN :urls " +
+            "UNION SELECT u.profileThumbnailUrl FROM User u WHERE u.profileThumbnailUrl IN :urls " +
+            "UNION SELECT u.profileMediumUrl FROM User u WHERE u.profileMediumUrl IN :urls")
+    List<String> findReferencedProfileUrls(@Param("urls") Collection<String> urls);
 }
@@ -0,0 +1,114 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.common.BoundedTtlCache;
+import com.pjx.pjxserver.common.TransactionHooks;
+import com.pjx.pjxserver.repository.FriendRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+// kakaoId -> 팔로우 중인 kakaoId 목록 (정렬된 long[]) 캐시
+// 팔로우 여부 확인을 사용자 조회 2번 + exists 쿼리 대신 메모리 이진 탐색으로 처리
+// 이 서버의 팔로우/언팔로우는 커밋 후 바로 반영, 다른 인스턴스의 변경은 TTL 안에 반영
+@Component
+public class FollowGraphCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FriendRepository friendRepository;
+    private final BoundedTtlCache<Long, long[]> cache;
+    private final long ttlMillis;
+
+    // 조회 중에 변경이 커밋되면 방금 읽은 목록은 이미 오래된 것이므로 캐시에 넣지 않기 위한 변경 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public FollowGraphCache(FriendRepository friendRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${follow-graph.cache.max-size:10000}") int maxSize,
+                            @Value("${follow-graph.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.friendRepository = friendRepository;
+        this.cache = new BoundedTtlCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.hits = Counter.builder("follow_graph.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("follow_graph.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("follow_graph.cache.size", cache, BoundedTtlCache::size).register(meterRegistry);
+    }
+
+    public boolean isFollowing(Long userKakaoId, Long friendKakaoId) {
+        return Arrays.binarySearch(getFollowing(userKakaoId), friendKakaoId) >= 0;
+    }
+
+    // 팔로우 중인 kakaoId 목록 (오름차순, 호출자가 수정하면 안 됨)
+    public long[] getFollowing(Long userKakaoId) {
+        long[] following = cache.get(userKakaoId);
+        if (following != null) {
+            hits.increment();
+            return following;
+        }
+        misses.increment();
+
+        long observedGeneration = generation.get();
+        following = friendRepository.findFriendIdsByKakaoId(userKakaoId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        synchronized (this) {
+            if (generation.get() == observedGeneration) {
+                cache.put(userKakaoId, following, System.currentTimeMillis() + ttlMillis);
+            }
+        }
+        return following;
+    }
+
+    // 팔로우가 커밋된 뒤 반영 (롤백되면 반영하지 않음)
+    public void followed(Long userKakaoId, Long friendKakaoId) {
+        TransactionHooks.afterCommit(() -> update(userKakaoId, friendKakaoId, true));
+    }
+
+    public void unfollowed(Long userKakaoId, Long friendKakaoId) {
+        TransactionHooks.afterCommit(() -> update(userKakaoId, friendKakaoId, false));
+    }
+
+    public void followedAll(Long userKakaoId, Collection<Long> friendKakaoIds) {
+        TransactionHooks.afterCommit(() -> friendKakaoIds.forEach(id -> update(userKakaoId, id, true)));
+    }
+
+    public void unfollowedAll(Long userKakaoId, Collection<Long> friendKakaoIds) {
+        TransactionHooks.afterCommit(() -> friendKakaoIds.forEach(id -> update(userKakaoId, id, false)));
+    }
+
+    // 캐시에 있는 목록만 새 배열로 교체 (읽는 쪽은 락 없이 이전/새 배열 중 하나를 봄)
+    private synchronized void update(Long userKakaoId, Long friendKakaoId, boolean follow) {
+        generation.incrementAndGet();
+        long[] following = cache.get(userKakaoId);
+        if (following == null) {
+            return;
+        }
+        int index = Arrays.binarySearch(following, friendKakaoId);
+        long[] updated;
+        if (follow && index < 0) {
+            int insertAt = -index - 1;
+            updated = new long[following.length + 1];
+            System.arraycopy(following, 0, updated, 0, insertAt);
+            updated[insertAt] = friendKakaoId;
+            System.arraycopy(following, insertAt, updated, insertAt + 1, following.length - insertAt);
+        } else if (!follow && index >= 0) {
+            updated = following.length == 1 ? EMPTY : new long[following.length - 1];
+            System.arraycopy(following, 0, updated, 0, index);
+            System.arraycopy(following, index + 1, updated, index, following.length - index - 1);
+        } else {
+            return;
+        }
+        cache.put(userKakaoId, updated, System.currentTimeMillis() + ttlMillis);
+    }
+}
@@ -0,0 +1,86 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.pjx.pjxserver.common.TransactionHooks;
+import com.pjx.pjxserver.domain.ImageObject;
+import com.pjx.pjxserver.repository.ImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 내용이 같은 이미지를 한 S3 객체로 공유하기 위한 참조 수 관리
+// image_object 에 없는 키(직접 업로드, 도입 전 이미지)는 다른 곳에서 참조될 수 있으므로 여기서 지우지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageObjectService {
+
+    private final ImageObjectRepository imageObjectRepository;
+    private final AmazonS3Client amazonS3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    // 같은 내용이 이미 올라가 있으면 참조 수를 늘리고 그 키를 반환 (없으면 null)
+    @Transactional
+    public String reuse(String contentHash) {
+        if (imageObjectRepository.incrementRefCountByContentHash(contentHash) == 0) {
+            return null;
+        }
+        return imageObjectRepository.findByContentHash(contentHash)
+                .map(ImageObject::getS3Key)
+                .orElse(null);
+    }
+
+    // 새로 올린 객체 등록, 동시에 같은 내용이 먼저 등록됐으면 그 키를 반환하고 방금 올린 객체는 삭제
+    @Transactional
+    public String register(String contentHash, String s3Key) {
+        imageObjectRepository.upsert(contentHash, s3Key);
+        String stored = imageObjectRepository.findByContentHash(contentHash)
+                .map(ImageObject::getS3Key)
+                .orElse(s3Key);
+        if (!stored.equals(s3Key)) {
+            TransactionHooks.afterCommit(() -> deleteQuietly(s3Key));
+        }
+        return stored;
+    }
+
+    // 기존 지출의 이미지 URL 을 다른 지출에 넣는 경우처럼 등록된 객체를 한 번 더 참조
+    @Transactional
+    public void retain(String s3Key) {
+        imageObjectRepository.incrementRefCountByS3Key(s3Key);
+    }
+
+    // 참조 수를 줄이고 0 이 되면 커밋 후 원본과 축소본 삭제 (등록된 키가 아니면 false)
+    @Transactional
+    public boolean release(String s3Key) {
+        if (imageObjectRepository.decrementRefCount(s3Key) == 0) {
+            return false;
+        }
+        if (imageObjectRepository.deleteUnreferenced(s3Key) > 0) {
+            TransactionHooks.afterCommit(() -> deleteWithVariants(s3Key));
+        }
+        return true;
+    }
+
+    // 원본과 축소본(thumbnails/, medium/) 삭제
+    public void deleteWithVariants(String s3Key) {
+        List.of(
+                s3Key,
+                ImageVariantService.variantKey(s3Key, "thumbnails/"),
+                ImageVariantService.variantKey(s3Key, "medium/")
+        ).forEach(this::deleteQuietly);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            amazonS3Client.deleteObject(bucketName, key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete image object {}", key, e);
+        }
+    }
+}
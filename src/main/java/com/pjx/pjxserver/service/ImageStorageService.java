@@ -0,0 +1,290 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+    private final ImageObjectService imageObjectService;
+    private final Executor imageUploadExecutor;
+    private final int perRequestConcurrency;
+    private final long multipartThreshold;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${image.upload.presign-ttl-seconds:600}")
+    private long presignTtlSeconds;
+
+    @Value("${image.upload.max-direct-upload-bytes:20971520}")
+    private long maxDirectUploadBytes;
+
+    public ImageStorageService(AmazonS3Client amazonS3Client,
+                               TransferManager transferManager,
+                               ImageObjectService imageObjectService,
+                               @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                               @Value("${image.upload.per-request-concurrency:4}") int perRequestConcurrency,
+                               @Value("${image.upload.multipart-threshold-bytes:8388608}") long multipartThreshold) {
+        this.amazonS3Client = amazonS3Client;
+        this.transferManager = transferManager;
+        this.imageObjectService = imageObjectService;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.perRequestConcurrency = perRequestConcurrency;
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    // 단일 이미지 업로드 (호출 스레드에서 바로 전송)
+    public String upload(String prefix, MultipartFile file) {
+        String key = store(prefix, file);
+        return amazonS3Client.getUrl(bucketName, key).toString();
+    }
+
+    // 한 요청의 이미지를 동시에 업로드하고 입력 순서대로 URL 반환
+    // 하나라도 실패하면 나머지 업로드가 끝나길 기다린 뒤 이미 올라간 파일의 참조를 해제하고 예외 발생
+    public List<String> uploadAll(String prefix, List<MultipartFile> files) {
+        Semaphore permits = new Semaphore(perRequestConcurrency);
+        List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+
+        for (MultipartFile file : files) {
+            if (uploads.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                break;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                uploads.add(CompletableFuture.failedFuture(e));
+                break;
+            }
+            try {
+                uploads.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return store(prefix, file);
+                    } finally {
+                        permits.release();
+                    }
+                }, imageUploadExecutor));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                uploads.add(CompletableFuture.failedFuture(e));
+                break;
+            }
+        }
+
+        List<String> uploadedKeys = new ArrayList<>(uploads.size());
+        Throwable failure = null;
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                uploadedKeys.add(upload.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            uploadedKeys.forEach(this::releaseQuietly);
+            throw new RuntimeException("Failed to upload image to S3", failure);
+        }
+
+        return uploadedKeys.stream()
+                .map(key -> amazonS3Client.getUrl(bucketName, key).toString())
+                .toList();
+    }
+
+    // 클라이언트가 API 서버를 거치지 않고 S3 에 직접 PUT 할 URL 발급
+    // Content-Type 도 서명에 포함되므로 클라이언트는 응답의 contentType 헤더로 올려야 함
+    public Map<String, Object> presignUpload(String prefix, String fileName) {
+        String key = prefix + UUID.randomUUID() + "-" + sanitizeFileName(fileName);
+        String contentType = getContentType(key);
+        Date expiration = new Date(System.currentTimeMillis() + presignTtlSeconds * 1000);
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+
+        return Map.of(
+                "key", key,
+                "uploadUrl", amazonS3Client.generatePresignedUrl(request).toString(),
+                "contentType", contentType,
+                "expiresAt", expiration
+        );
+    }
+
+    // 직접 업로드가 끝난 키를 검증하고 URL 반환 (발급한 prefix 아래인지, 실제로 올라왔는지, 크기 제한 이내인지)
+    public String confirmUpload(String prefix, String key) {
+        if (key == null || !key.startsWith(prefix) || key.contains("..")) {
+            throw new IllegalArgumentException("허용되지 않은 이미지 키입니다: " + key);
+        }
+
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3Client.getObjectMetadata(bucketName, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("업로드가 완료되지 않은 이미지입니다: " + key);
+            }
+            throw e;
+        }
+
+        // presigned PUT 은 크기를 제한할 수 없으므로 확인 단계에서 거절하고 삭제
+        if (metadata.getContentLength() > maxDirectUploadBytes) {
+            deleteQuietly(key);
+            throw new IllegalArgumentException("이미지 크기가 너무 큽니다: " + key);
+        }
+
+        return amazonS3Client.getUrl(bucketName, key).toString();
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName == null ? "" : fileName.substring(fileName.lastIndexOf('/') + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return name.isEmpty() ? "image" : name;
+    }
+
+    // getUrl 로 만든 URL 에서 객체 키 추출 (virtual-hosted, path-style 모두), 우리 버킷의 이미지가 아니면 null
+    public String keyOf(String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        String bucketPrefix = "/" + bucketName + "/";
+        String key = path.startsWith(bucketPrefix) ? path.substring(bucketPrefix.length()) : path.substring(1);
+        return (key.startsWith("spending/") || key.startsWith("profiles/")) ? key : null;
+    }
+
+    // 내용 해시로 이미 올라간 객체가 있으면 업로드 없이 그 키를 재사용, 없으면 새 키로 업로드 후 등록
+    // 업로드를 건너뛰려면 전송 전에 해시가 필요하므로 서블릿 임시 파일(디스크)을 한 번 먼저 읽음
+    private String store(String prefix, MultipartFile file) {
+        String contentHash = sha256(file);
+        String existingKey = imageObjectService.reuse(contentHash);
+        if (existingKey != null) {
+            return existingKey;
+        }
+        String key = putObject(prefix + UUID.randomUUID() + "-" + file.getOriginalFilename(), file);
+        return imageObjectService.register(contentHash, key);
+    }
+
+    private static String sha256(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String putObject(String key, MultipartFile file) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(getContentType(file.getOriginalFilename()));
+        // 길이를 알려줘야 SDK 가 스트림 전체를 힙에 버퍼링하지 않고 바로 전송
+        metadata.setContentLength(file.getSize());
+
+        try {
+            if (file.getSize() >= multipartThreshold) {
+                putMultipart(key, file, metadata);
+            } else {
+                try (InputStream in = file.getInputStream()) {
+                    amazonS3Client.putObject(bucketName, key, in, metadata);
+                }
+            }
+            return key;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 큰 파일은 디스크의 임시 파일에서 파트 단위로 읽어 병렬 전송 (힙에는 파트 버퍼만 올라감)
+    private void putMultipart(String key, MultipartFile file, ObjectMetadata metadata) throws IOException {
+        Path tempFile = Files.createTempFile("s3-upload-", ".tmp");
+        try {
+            // 서블릿 임시 파일이 디스크에 있으면 복사 없이 이동됨
+            file.transferTo(tempFile.toFile());
+            PutObjectRequest request = new PutObjectRequest(bucketName, key, tempFile.toFile())
+                    .withMetadata(metadata);
+            transferManager.upload(request).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while uploading " + key, e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void releaseQuietly(String key) {
+        try {
+            imageObjectService.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release partially uploaded image {}", key, e);
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            amazonS3Client.deleteObject(bucketName, key);
+        } catch (RuntimeException e) {
+            // 정리 실패는 원래 업로드 실패를 가리지 않도록 로그만 남김
+            log.warn("Failed to delete partially uploaded image {}", key, e);
+        }
+    }
+
+    // 파일 확장자에 따른 Content-Type 반환 메서드
+    String getContentType(String fileName) {
+        if (fileName.endsWith(".webp")) {
+            return "image/webp";
+        } else if (fileName.endsWith(".png")) {
+            return "image/png";
+        } else if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else {
+            return "application/octet-stream";
+        }
+    }
+}
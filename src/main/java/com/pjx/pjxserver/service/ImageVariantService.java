@@ -0,0 +1,257 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.pjx.pjxserver.domain.ImageVariant;
+import com.pjx.pjxserver.repository.SpendingRepository;
+import com.pjx.pjxserver.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// 업로드된 원본을 S3 에서 읽어 썸네일/중간 크기 JPEG 를 원본 옆에 저장하고 URL 을 기록
+// 요청 스레드와 분리된 imageProcessingExecutor 에서 실행되며, 실패해도 원본 URL 로 대체되므로 예외를 전파하지 않음
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    static final int THUMBNAIL_MAX_EDGE = 240;
+    static final int MEDIUM_MAX_EDGE = 1080;
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final AmazonS3Client amazonS3Client;
+    private final ImageStorageService imageStorageService;
+    private final SpendingRepository spendingRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor imageProcessingExecutor;
+    private final long maxPixels;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    public ImageVariantService(AmazonS3Client amazonS3Client,
+                               ImageStorageService imageStorageService,
+                               SpendingRepository spendingRepository,
+                               UserRepository userRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+                               @Value("${image.processing.max-pixels:100000000}") long maxPixels) {
+        this.amazonS3Client = amazonS3Client;
+        this.imageStorageService = imageStorageService;
+        this.spendingRepository = spendingRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.maxPixels = maxPixels;
+    }
+
+    public void generateForSpending(Long spendingId, List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        submit(() -> {
+            List<ImageVariant> variants = new ArrayList<>();
+            for (String url : imageUrls) {
+                ImageVariant variant = createVariant(url);
+                if (variant != null) {
+                    variants.add(variant);
+                }
+            }
+            if (variants.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    spendingRepository.findById(spendingId)
+                            .ifPresent(spending -> spending.addImageVariants(variants)));
+        });
+    }
+
+    public void generateForProfile(Long kakaoId, String profileImageUrl) {
+        submit(() -> {
+            ImageVariant variant = createVariant(profileImageUrl);
+            if (variant == null) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.findByKakaoId(kakaoId)
+                            // 생성 중에 프로필이 다시 바뀌었으면 기록하지 않음
+                            .filter(user -> Objects.equals(user.getProfileImageUrl(), profileImageUrl))
+                            .ifPresent(user -> {
+                                user.setProfileThumbnailUrl(variant.getThumbnailUrl());
+                                user.setProfileMediumUrl(variant.getMediumUrl());
+                            }));
+        });
+    }
+
+    private void submit(Runnable task) {
+        try {
+            imageProcessingExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to generate image variants", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 축소본 없이 원본을 그대로 사용
+            log.warn("Image processing queue is full, skipping variants");
+        }
+    }
+
+    // 우리 버킷의 원본이 아니거나 ImageIO 로 읽을 수 없는 형식(webp 등)이거나 해상도가 너무 크면 null
+    ImageVariant createVariant(String originalUrl) {
+        String key = imageStorageService.keyOf(originalUrl);
+        if (key == null) {
+            return null;
+        }
+
+        // 중복 제거로 재사용된 원본이면 축소본도 이미 있으므로 다시 만들지 않음
+        String thumbnailKey = variantKey(key, "thumbnails/");
+        String mediumKey = variantKey(key, "medium/");
+        if (amazonS3Client.doesObjectExist(bucketName, thumbnailKey) && amazonS3Client.doesObjectExist(bucketName, mediumKey)) {
+            return new ImageVariant(originalUrl,
+                    amazonS3Client.getUrl(bucketName, thumbnailKey).toString(),
+                    amazonS3Client.getUrl(bucketName, mediumKey).toString());
+        }
+
+        BufferedImage source;
+        try (S3Object object = amazonS3Client.getObject(bucketName, key);
+             InputStream in = object.getObjectContent()) {
+            source = readForVariants(key, in);
+        } catch (IOException e) {
+            log.warn("Failed to read original image {}", key, e);
+            return null;
+        }
+        if (source == null) {
+            return null;
+        }
+
+        try {
+            String thumbnailUrl = putJpeg(thumbnailKey, resize(source, THUMBNAIL_MAX_EDGE));
+            String mediumUrl = putJpeg(mediumKey, resize(source, MEDIUM_MAX_EDGE));
+            return new ImageVariant(originalUrl, thumbnailUrl, mediumUrl);
+        } catch (IOException e) {
+            log.warn("Failed to write image variants for {}", key, e);
+            return null;
+        }
+    }
+
+    // 헤더의 가로/세로로 픽셀 수를 먼저 확인해 압축 폭탄(작은 파일, 거대한 해상도)은 디코딩하지 않음
+    // 큰 원본은 중간 크기보다 작아지지 않는 만큼 건너뛰며 읽어 전체 해상도 버퍼를 만들지 않음
+    private BufferedImage readForVariants(String key, InputStream in) throws IOException {
+        try (ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = imageIn == null ? null : ImageIO.getImageReaders(imageIn);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Skipping image variants for {}: {}x{} exceeds {} pixels", key, width, height, maxPixels);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = sourceSubsampling(width, height);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 읽은 뒤에도 긴 변이 MEDIUM_MAX_EDGE 이상 남는 가장 큰 간격 (작은 이미지는 1)
+    static int sourceSubsampling(int width, int height) {
+        return Math.max(1, Math.max(width, height) / MEDIUM_MAX_EDGE);
+    }
+
+    // spending/abc-receipt.png -> spending/thumbnails/abc-receipt.jpg
+    static String variantKey(String originalKey, String variantDir) {
+        int slash = originalKey.indexOf('/');
+        String dir = originalKey.substring(0, slash + 1);
+        String name = originalKey.substring(slash + 1);
+        int dot = name.lastIndexOf('.');
+        String baseName = dot > 0 ? name.substring(0, dot) : name;
+        return dir + variantDir + baseName + ".jpg";
+    }
+
+    // 긴 변이 maxEdge 를 넘지 않도록 비율 유지 축소 (작은 이미지는 확대하지 않음), JPEG 용으로 흰 배경에 그림
+    static BufferedImage resize(BufferedImage source, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private String putJpeg(String key, BufferedImage image) throws IOException {
+        byte[] bytes = encodeJpeg(image);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/jpeg");
+        metadata.setContentLength(bytes.length);
+        // 키에 UUID 가 들어 있어 내용이 바뀌지 않으므로 클라이언트/CDN 에서 오래 캐시
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+        amazonS3Client.putObject(bucketName, key, new ByteArrayInputStream(bytes), metadata);
+
+        return amazonS3Client.getUrl(bucketName, key).toString();
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -9,8 +9,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -25,7 +31,22 @@ public class KakaoService {
     @Value("${kakao.client_secret}")
     private String clientSecret;
 
-    private final WebClient.Builder webClientBuilder;
+    // 카카오 호출 전용 커넥션 풀/타임아웃이 설정된 공유 WebClient (WebClientConfig)
+    private final WebClient kakaoWebClient;
+
+    // 로컬 부하 테스트 시 카카오 스텁 서버 주소로 교체
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}")
+    private String authBaseUrl;
+
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")
+    private String apiBaseUrl;
+
+    // 조회(GET) 재시도 횟수와 첫 대기 시간 (지수 백오프 + 지터)
+    @Value("${kakao.http.retry.max-attempts:2}")
+    private int retryMaxAttempts;
+
+    @Value("${kakao.http.retry.min-backoff:100ms}")
+    private Duration retryMinBackoff;
 
 //    public Mono<KakaoTokenResponseDto> getAccessToken(String code) {
 //
@@ -56,9 +77,10 @@ public class KakaoService {
 //    }
 
     public Mono<KakaoTokenResponseDto> getAccessToken(String code, String redirectUri) {
-        return webClientBuilder.build()
+        // 인가 코드는 한 번만 사용할 수 있으므로 토큰 발급은 재시도하지 않음
+        return kakaoWebClient
                 .post()
-                .uri("https://kauth.kakao.com/oauth/token")
+                .uri(authBaseUrl + "/oauth/token")
                 .header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
                 .bodyValue("grant_type=authorization_code&client_id=" + clientId + "&redirect_uri=" + redirectUri +
                         "&code=" + code + "&client_secret=" + clientSecret)
@@ -69,12 +91,24 @@ public class KakaoService {
 
 
     public Mono<KakaoUserInfoResponseDto> getUserInfo(String accessToken) {
-        return webClientBuilder.build()
+        return kakaoWebClient
                 .get()
-                .uri("https://kapi.kakao.com/v2/user/me")
+                .uri(apiBaseUrl + "/v2/user/me")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(KakaoUserInfoResponseDto.class);
+                .bodyToMono(KakaoUserInfoResponseDto.class)
+                .retryWhen(Retry.backoff(retryMaxAttempts, retryMinBackoff)
+                        .jitter(0.5)
+                        .filter(KakaoService::isRetryable));
+    }
+
+    // 연결 실패, 응답 타임아웃, 5xx/429 만 재시도 (401 같은 토큰 오류는 바로 실패)
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException
+                || e.getCause() instanceof TimeoutException;
     }
 
 
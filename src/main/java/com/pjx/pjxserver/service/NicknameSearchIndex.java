@@ -0,0 +1,264 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.common.TransactionHooks;
+import com.pjx.pjxserver.domain.User;
+import com.pjx.pjxserver.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// nickname, userNickname 의 1-gram/2-gram -> kakaoId 역색인 (LIKE '%x%' 전체 스캔 대신 메모리에서 후보만 확인)
+// 기동 시와 주기적으로 user 테이블에서 다시 만들고, 이 서버의 닉네임 변경은 커밋 후 바로 반영
+@Slf4j
+@Component
+public class NicknameSearchIndex implements ApplicationRunner {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    // 점수가 낮을수록 앞: 완전 일치 < 접두 일치 < 부분 일치, 같은 단계에서는 앱 닉네임(userNickname) 우선
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::score)
+            .thenComparingInt(match -> match.name().length())
+            .thenComparing(Match::name)
+            .thenComparing(Match::kakaoId);
+
+    private final UserRepository userRepository;
+    private final int maxResults;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private Map<Long, Names> names = new HashMap<>();
+    // 다시 만드는 동안 들어온 변경 (새 색인으로 바꾼 뒤 다시 적용), 다시 만드는 중이 아니면 null
+    private List<Names> pendingDuringRebuild;
+
+    private final Object rebuildMonitor = new Object();
+
+    record Names(Long kakaoId, String nickname, String userNickname) {
+    }
+
+    private record Match(Long kakaoId, int score, String name) {
+    }
+
+    public NicknameSearchIndex(UserRepository userRepository,
+                               @Value("${user.search.max-results:100}") int maxResults) {
+        this.userRepository = userRepository;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    // 다른 인스턴스에서 바뀐 닉네임 반영
+    @Scheduled(fixedDelayString = "${user.search.rebuild-interval:PT10M}",
+            initialDelayString = "${user.search.rebuild-interval:PT10M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // 닉네임이 바뀐 사용자를 커밋 후 반영 (롤백되면 반영하지 않음)
+    public void updated(Long kakaoId, String nickname, String userNickname) {
+        TransactionHooks.afterCommit(() -> put(kakaoId, nickname, userNickname));
+    }
+
+    public void put(Long kakaoId, String nickname, String userNickname) {
+        Names entry = new Names(kakaoId, nickname, userNickname);
+        lock.writeLock().lock();
+        try {
+            apply(postings, names, entry);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어를 포함하는 사용자의 kakaoId 를 순위대로 최대 maxResults 개
+    public List<Long> search(String query) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+
+        // 순위가 가장 낮은(뒤쪽) 항목을 버리며 상위 maxResults 개만 유지
+        PriorityQueue<Match> top = new PriorityQueue<>(RANKING.reversed());
+        lock.readLock().lock();
+        try {
+            for (Long kakaoId : candidates(q)) {
+                Match match = match(names.get(kakaoId), q);
+                if (match == null) {
+                    continue;
+                }
+                top.add(match);
+                if (top.size() > maxResults) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked.stream().map(Match::kakaoId).toList();
+    }
+
+    // user 테이블을 id 순서로 페이지 단위로 읽어 새 색인을 만든 뒤 교체 (검색은 그동안 이전 색인 사용)
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<String, Set<Long>> newPostings = new HashMap<>();
+            Map<Long, Names> newNames = new HashMap<>();
+            try {
+                long afterId = 0;
+                List<User> page;
+                do {
+                    page = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                    for (User user : page) {
+                        apply(newPostings, newNames, new Names(user.getKakaoId(), user.getNickname(), user.getUserNickname()));
+                    }
+                    if (!page.isEmpty()) {
+                        afterId = page.get(page.size() - 1).getId();
+                    }
+                } while (page.size() == REBUILD_PAGE_SIZE);
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(entry -> apply(newPostings, newNames, entry));
+                postings = newPostings;
+                names = newNames;
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt nickname search index ({} users, {} grams)", newNames.size(), newPostings.size());
+        }
+    }
+
+    // 한 글자 검색은 1-gram 목록, 그 이상은 2-gram 목록 중 가장 짧은 것이 후보 (실제 포함 여부는 match 에서 확인)
+    private Set<Long> candidates(String q) {
+        if (q.length() == 1) {
+            return postings.getOrDefault(q, Set.of());
+        }
+        Set<Long> smallest = null;
+        for (int i = 0; i + 2 <= q.length(); i++) {
+            Set<Long> ids = postings.get(q.substring(i, i + 2));
+            if (ids == null) {
+                return Set.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private static Match match(Names entry, String q) {
+        if (entry == null) {
+            return null;
+        }
+        Match best = null;
+        String userNickname = normalize(entry.userNickname());
+        int score = score(userNickname, q);
+        if (score >= 0) {
+            best = new Match(entry.kakaoId(), score * 2, userNickname);
+        }
+        String nickname = normalize(entry.nickname());
+        score = score(nickname, q);
+        if (score >= 0 && (best == null || score * 2 + 1 < best.score())) {
+            best = new Match(entry.kakaoId(), score * 2 + 1, nickname);
+        }
+        return best;
+    }
+
+    private static int score(String name, String q) {
+        if (name.equals(q)) {
+            return 0;
+        }
+        if (name.startsWith(q)) {
+            return 1;
+        }
+        return name.contains(q) ? 2 : -1;
+    }
+
+    // 이전 이름의 gram 을 빼고 새 이름의 gram 을 추가, 두 닉네임이 모두 없으면 색인에서 제거
+    private static void apply(Map<String, Set<Long>> postings, Map<Long, Names> names, Names entry) {
+        Long kakaoId = entry.kakaoId();
+        boolean remove = isBlank(entry.nickname()) && isBlank(entry.userNickname());
+        Names previous = remove ? names.remove(kakaoId) : names.put(kakaoId, entry);
+
+        if (previous != null) {
+            for (String gram : grams(previous)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null && ids.remove(kakaoId) && ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        if (!remove) {
+            for (String gram : grams(entry)) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(kakaoId);
+            }
+        }
+    }
+
+    private static Set<String> grams(Names entry) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, normalize(entry.nickname()));
+        addGrams(grams, normalize(entry.userNickname()));
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String name) {
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+            if (i + 2 <= name.length()) {
+                grams.add(name.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 조합형(NFD)으로 들어온 한글도 같은 글자로 보도록 NFC 로 맞추고 대소문자 무시
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,163 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.pjx.pjxserver.repository.ImageObjectRepository;
+import com.pjx.pjxserver.repository.SpendingRepository;
+import com.pjx.pjxserver.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// spending/, profiles/ 아래에서 어떤 행도 참조하지 않는 S3 객체를 찾아 DeleteObjects 로 묶어서 삭제
+// 목록 한 페이지(최대 1000개)씩 DB 에 참조 여부를 묻기 때문에 메모리 사용량은 버킷 크기와 무관
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanImageCleanupJob {
+
+    private static final List<String> PREFIXES = List.of("spending/", "profiles/");
+    private static final int MAX_KEYS_PER_REQUEST = 1000; // ListObjectsV2, DeleteObjects 한 번의 상한
+
+    private final AmazonS3Client amazonS3Client;
+    private final SpendingRepository spendingRepository;
+    private final UserRepository userRepository;
+    private final ImageObjectRepository imageObjectRepository;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${image.gc.enabled:true}")
+    private boolean enabled;
+
+    // 이 시간보다 최근에 올라온 객체는 건너뜀 (직접 업로드 후 확인 전이거나 지출 저장 중인 이미지)
+    @Value("${image.gc.grace-period:24h}")
+    private Duration gracePeriod;
+
+    @Value("${image.gc.batch-size:1000}")
+    private int batchSize;
+
+    // DeleteObjects 사이 대기 시간 (S3 요청 속도 제한)
+    @Value("${image.gc.batch-pause-millis:1000}")
+    private long batchPauseMillis;
+
+    @Value("${image.gc.max-deletes-per-run:20000}")
+    private int maxDeletesPerRun;
+
+    // true 면 삭제 대상만 로그로 남김
+    @Value("${image.gc.dry-run:false}")
+    private boolean dryRun;
+
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    // 삭제한(dry-run 이면 삭제 대상인) 객체 수 반환
+    public int run() {
+        long cutoff = System.currentTimeMillis() - gracePeriod.toMillis();
+        int deleteBatchSize = Math.min(batchSize, MAX_KEYS_PER_REQUEST);
+        List<String> pending = new ArrayList<>(deleteBatchSize);
+        int deleted = 0;
+
+        try {
+            for (String prefix : PREFIXES) {
+                ListObjectsV2Request request = new ListObjectsV2Request()
+                        .withBucketName(bucketName)
+                        .withPrefix(prefix)
+                        .withMaxKeys(MAX_KEYS_PER_REQUEST);
+                ListObjectsV2Result page;
+                do {
+                    page = amazonS3Client.listObjectsV2(request);
+
+                    for (String key : findOrphans(page.getObjectSummaries(), cutoff)) {
+                        if (deleted + pending.size() >= maxDeletesPerRun) {
+                            break;
+                        }
+                        pending.add(key);
+                        if (pending.size() == deleteBatchSize) {
+                            deleted += deleteBatch(pending);
+                        }
+                    }
+                    if (deleted + pending.size() >= maxDeletesPerRun) {
+                        log.info("Orphan image cleanup reached max-deletes-per-run ({})", maxDeletesPerRun);
+                        deleted += deleteBatch(pending);
+                        return deleted;
+                    }
+
+                    request.setContinuationToken(page.getNextContinuationToken());
+                } while (page.isTruncated());
+            }
+            deleted += deleteBatch(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("Orphan image cleanup finished: {} objects {}", deleted, dryRun ? "found (dry-run)" : "deleted");
+        return deleted;
+    }
+
+    // 유예 기간이 지났고 지출/프로필/중복 제거 색인 어디에서도 참조하지 않는 키
+    private List<String> findOrphans(List<S3ObjectSummary> summaries, long cutoff) {
+        Map<String, String> urlToKey = new HashMap<>();
+        for (S3ObjectSummary summary : summaries) {
+            if (summary.getLastModified().getTime() < cutoff) {
+                urlToKey.put(amazonS3Client.getUrl(bucketName, summary.getKey()).toString(), summary.getKey());
+            }
+        }
+        if (urlToKey.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> referencedKeys = new HashSet<>(imageObjectRepository.findS3KeysIn(urlToKey.values()));
+        spendingRepository.findReferencedImageUrls(urlToKey.keySet()).forEach(url -> referencedKeys.add(urlToKey.get(url)));
+        userRepository.findReferencedProfileUrls(urlToKey.keySet()).forEach(url -> referencedKeys.add(urlToKey.get(url)));
+
+        return urlToKey.values().stream()
+                .filter(key -> !referencedKeys.contains(key))
+                .sorted()
+                .toList();
+    }
+
+    private int deleteBatch(List<String> keys) throws InterruptedException {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        int count = keys.size();
+        if (dryRun) {
+            log.info("Orphan image cleanup (dry-run) would delete {}", keys);
+            keys.clear();
+            return count;
+        }
+
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            amazonS3Client.deleteObjects(request);
+        } catch (MultiObjectDeleteException e) {
+            log.warn("Failed to delete {} of {} orphan images", e.getErrors().size(), count);
+            count -= e.getErrors().size();
+        }
+        keys.clear();
+
+        Thread.sleep(batchPauseMillis);
+        return count;
+    }
+}
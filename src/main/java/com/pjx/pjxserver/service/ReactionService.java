@@ -44,6 +44,11 @@ public class ReactionService {
     public List<Map<String, Object>> getReactionsByDateRange(Long kakaoId, LocalDate startDate, LocalDate endDate) {
         List<Reaction> reactions = reactionRepository.findAllByKakaoIdAndDateBetween(kakaoId, startDate, endDate);
 
+        return toReactionData(reactions);
+    }
+
+    // 리액션 목록을 응답용 Map으로 변환 (벤치마크에서 직접 호출하기 위해 package-private)
+    static List<Map<String, Object>> toReactionData(List<Reaction> reactions) {
         return reactions.stream()
                 .map(reaction -> {
                     Map<String, Object> data = new HashMap<>();
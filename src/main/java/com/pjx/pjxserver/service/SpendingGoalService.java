@@ -1,7 +1,6 @@
 package com.pjx.pjxserver.service;
 
 import com.pjx.pjxserver.domain.Expense;
-import com.pjx.pjxserver.domain.Spending;
 import com.pjx.pjxserver.domain.SpendingGoal;
 import com.pjx.pjxserver.domain.User;
 import com.pjx.pjxserver.repository.ExpenseRepository;
@@ -13,7 +12,6 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 
 @Service
 public class SpendingGoalService {
@@ -29,6 +27,9 @@ public class SpendingGoalService {
     @Autowired
     private ExpenseRepository expenseRepository;
 
+    @Autowired
+    private SpendingSummaryService spendingSummaryService;
+
     // 한 달 목표 설정
     public SpendingGoal setMonthlyGoal(Long kakaoId, BigDecimal goal) {
         User user = userRepository.findByKakaoId(kakaoId)
@@ -52,12 +53,10 @@ public class SpendingGoalService {
         User user = userRepository.findByKakaoId(kakaoId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Spending 테이블에서 해당 월의 지출 총합 계산
+        // 일별 합계 테이블에서 해당 월의 지출 총합 계산
         LocalDate start = month.withDayOfMonth(1);
         LocalDate end = month.withDayOfMonth(month.lengthOfMonth());
-        BigDecimal spendingSum = spendingRepository.findAllByKakaoIdAndDateBetween(kakaoId, start, end).stream()
-                .map(Spending::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal spendingSum = spendingSummaryService.getTotal(kakaoId, start, end);
 
         // SpendingGoal의 currentSpending 값과 합산
         return spendingGoalRepository.findByUserAndGoalDate(user, month.withDayOfMonth(1))
@@ -84,20 +83,16 @@ public class SpendingGoalService {
         return expenseRepository.save(expense);
     }
 
-    // 오늘의 지출 조회 (Spending 데이터 기반)
+    // 오늘의 지출 조회 (일별 합계 기반)
     public BigDecimal getTodaySpending(Long kakaoId) {
         LocalDate today = LocalDate.now();
 
-        return spendingRepository.findByKakaoIdAndDate(kakaoId, today).stream()
-                .map(Spending::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return spendingSummaryService.getDailyTotal(kakaoId, today);
     }
 
-    // 특정 날짜의 지출 조회 (Spending 데이터 기반)
+    // 특정 날짜의 지출 조회 (일별 합계 기반)
     public BigDecimal getSpendingByDate(Long kakaoId, LocalDate date) {
-        return spendingRepository.findByKakaoIdAndDate(kakaoId, date).stream()
-                .map(Spending::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return spendingSummaryService.getDailyTotal(kakaoId, date);
     }
 
     // 이번 달 목표 지출을 조회하는 메서드 추가
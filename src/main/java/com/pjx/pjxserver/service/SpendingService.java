@@ -1,16 +1,21 @@
 package com.pjx.pjxserver.service;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.pjx.pjxserver.common.TransactionHooks;
+import com.pjx.pjxserver.domain.Reaction;
 import com.pjx.pjxserver.domain.Spending;
+import com.pjx.pjxserver.domain.SpendingDailySummary;
 import com.pjx.pjxserver.domain.User;
+import com.pjx.pjxserver.dto.DailySpendingSummaryDto;
 import com.pjx.pjxserver.repository.FriendRepository;
+import com.pjx.pjxserver.repository.ReactionRepository;
 import com.pjx.pjxserver.repository.SpendingRepository;
 import com.pjx.pjxserver.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -22,6 +27,9 @@ import java.util.stream.Collectors;
 @Service
 public class SpendingService {
 
+    private static final int DEFAULT_FEED_PAGE_SIZE = 20;
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     @Autowired
     private SpendingRepository spendingRepository;
     @Autowired
@@ -29,11 +37,19 @@ public class SpendingService {
     @Autowired
     private FriendRepository friendRepository;
     @Autowired
-    private AmazonS3Client amazonS3Client;
+    private ImageStorageService imageStorageService;
+    @Autowired
+    private ImageVariantService imageVariantService;
+    @Autowired
+    private ImageObjectService imageObjectService;
+    @Autowired
+    private ReactionRepository reactionRepository;
+    @Autowired
+    private SpendingSummaryService spendingSummaryService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
     // 날짜를 포함하도록 메서드 시그니처 수정
 
     public Spending createSpending(Long kakaoId, LocalDate date, BigDecimal amount, String description, String note, List<MultipartFile> images) throws IOException {
@@ -43,7 +59,7 @@ public class SpendingService {
         // 이미지가 null이거나 비어 있는 경우 빈 리스트를 사용
         List<String> imageUrls = (images == null || images.isEmpty())
                 ? Collections.emptyList()
-                : images.stream().map(this::uploadImageToS3).collect(Collectors.toList());
+                : imageStorageService.uploadAll("spending/", images);
 
         Spending spending = Spending.builder()
                 .kakaoId(kakaoId)
@@ -55,50 +71,93 @@ public class SpendingService {
                 .user(user)
                 .build();
 
-        return spendingRepository.save(spending);
-    }
-
-    private String uploadImageToS3(MultipartFile file) {
+        // S3 업로드가 끝난 뒤에만 트랜잭션을 열어 커넥션 점유 시간을 줄임
         try {
-            String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-            String filePath = "spending/" + fileName;
-
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(getContentType(file.getOriginalFilename()));
-            amazonS3Client.putObject(bucketName, filePath, file.getInputStream(), metadata);
-
-            return amazonS3Client.getUrl(bucketName, filePath).toString();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to upload image to S3", e);
-        }
-    }
-
-    private String getContentType(String fileName) {
-        if (fileName.endsWith(".webp")) {
-            return "image/webp";
-        } else if (fileName.endsWith(".png")) {
-            return "image/png";
-        } else if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else {
-            return "application/octet-stream";
+            return transactionTemplate.execute(status -> {
+                Spending saved = spendingRepository.save(spending);
+                spendingSummaryService.apply(kakaoId, date, amount, 1);
+                // 썸네일은 커밋 후 별도 풀에서 생성 (응답을 기다리게 하지 않음)
+                TransactionHooks.afterCommit(() -> imageVariantService.generateForSpending(saved.getId(), imageUrls));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 저장에 실패하면 업로드하면서 잡은 이미지 참조를 되돌림
+            imageUrls.forEach(this::releaseImage);
+            throw e;
         }
     }
 
+    @Transactional
     public Spending updateSpending(Long spendingId, BigDecimal amount, String description, String note, List<String> images) {
         Spending spending = spendingRepository.findById(spendingId)
                 .orElseThrow(() -> new RuntimeException("Spending not found"));
 
-        if (amount != null) spending.setAmount(amount);
+        if (amount != null) {
+            spendingSummaryService.apply(spending.getKakaoId(), spending.getDate(), amount.subtract(spending.getAmount()), 0);
+            spending.setAmount(amount);
+        }
         if (description != null) spending.setDescription(description);
         if (note != null) spending.setNote(note);
-        if (images != null) spending.setImages(images);
+        if (images != null) {
+            List<String> newImages = images.stream()
+                    .filter(url -> !spending.getImages().contains(url))
+                    .toList();
+            List<String> removedImages = spending.getImages().stream()
+                    .filter(url -> !images.contains(url))
+                    .toList();
+            newImages.forEach(this::retainImage);
+            removedImages.forEach(this::releaseImage);
+            spending.setImages(images);
+            TransactionHooks.afterCommit(() -> imageVariantService.generateForSpending(spendingId, newImages));
+        }
 
         return spendingRepository.save(spending);
     }
 
+    // 직접 업로드(presigned PUT)가 끝난 이미지를 지출에 추가
+    @Transactional
+    public Spending attachUploadedImages(Long kakaoId, Long spendingId, List<String> keys) {
+        Spending spending = spendingRepository.findById(spendingId)
+                .orElseThrow(() -> new RuntimeException("Spending not found"));
+        if (!spending.getKakaoId().equals(kakaoId)) {
+            throw new IllegalArgumentException("본인의 지출에만 이미지를 추가할 수 있습니다.");
+        }
+
+        List<String> imageUrls = keys.stream()
+                .map(key -> imageStorageService.confirmUpload("spending/" + kakaoId + "/", key))
+                .filter(url -> !spending.getImages().contains(url))
+                .toList();
+
+        List<String> images = new ArrayList<>(spending.getImages());
+        images.addAll(imageUrls);
+        spending.setImages(images);
+
+        TransactionHooks.afterCommit(() -> imageVariantService.generateForSpending(spendingId, imageUrls));
+        return spending;
+    }
+
+    @Transactional
     public void deleteSpending(Long spendingId) {
-        spendingRepository.deleteById(spendingId);
+        spendingRepository.findById(spendingId).ifPresent(spending -> {
+            spendingSummaryService.apply(spending.getKakaoId(), spending.getDate(), spending.getAmount().negate(), -1);
+            spending.getImages().forEach(this::releaseImage);
+            spendingRepository.delete(spending);
+        });
+    }
+
+    // 중복 제거된 이미지의 참조 수 관리 (image_object 에 등록된 키만 해당)
+    private void retainImage(String url) {
+        String key = imageStorageService.keyOf(url);
+        if (key != null) {
+            imageObjectService.retain(key);
+        }
+    }
+
+    private void releaseImage(String url) {
+        String key = imageStorageService.keyOf(url);
+        if (key != null) {
+            imageObjectService.release(key);
+        }
     }
 
     public Optional<Spending> getSpendingDetail(Long spendingId) {
@@ -119,18 +178,39 @@ public class SpendingService {
         spendingRepository.save(spending);
     }
 
-    public List<Map<String, Object>> getFriendSpendingSummary(Long kakaoId) {
-        List<Long> friendKakaoIds = friendRepository.findFriendIdsByKakaoId(kakaoId);
-        List<Spending> spendings = spendingRepository.findByKakaoIdIn(friendKakaoIds);
+    // 친구 지출 피드 (date desc, id desc 순서의 커서 기반 페이지, 페이지 크기 상한 적용)
+    public Map<String, Object> getFriendSpendingSummary(Long kakaoId, LocalDate cursorDate, Long cursorId, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_PAGE_SIZE : Math.min(size, MAX_FEED_PAGE_SIZE);
+        Pageable page = PageRequest.of(0, pageSize);
+
+        List<Spending> spendings = (cursorDate == null || cursorId == null)
+                ? spendingRepository.findFriendFeed(kakaoId, page)
+                : spendingRepository.findFriendFeedAfter(kakaoId, cursorDate, cursorId, page);
 
+        boolean hasNext = spendings.size() == pageSize;
+        Map<String, Object> result = new HashMap<>();
+        result.put("spendings", toFriendSpendingSummaries(spendings));
+        result.put("hasNext", hasNext);
+        if (hasNext) {
+            Spending last = spendings.get(spendings.size() - 1);
+            result.put("nextCursorDate", last.getDate());
+            result.put("nextCursorId", last.getId());
+        }
+        return result;
+    }
+
+    // 친구 지출 목록을 응답용 Map으로 변환 (벤치마크에서 직접 호출하기 위해 package-private)
+    static List<Map<String, Object>> toFriendSpendingSummaries(List<Spending> spendings) {
         return spendings.stream()
                 .map(spending -> {
                     Map<String, Object> summary = new HashMap<>();
+                    summary.put("spendingId", spending.getId());
                     summary.put("description", spending.getDescription());
                     summary.put("amount", spending.getAmount());
                     summary.put("kakaoId", spending.getKakaoId());
                     summary.put("note", spending.getNote());
                     summary.put("images", spending.getImages());
+                    summary.put("thumbnails", spending.getThumbnailUrls());
                     summary.put("date", spending.getDate());
                     summary.put("reactions", spending.getReactions()); // 각 지출 항목에 대한 리액션 포함
                     return summary;
@@ -157,6 +237,37 @@ public class SpendingService {
         spendingRepository.save(spending);
     }
 
+    // 월 달력용: 일별 합계 테이블과 리액션을 각각 한 번씩만 조회해서 날짜별로 합침
+    public List<DailySpendingSummaryDto> getMonthlyCalendar(Long kakaoId, LocalDate month) {
+        LocalDate start = month.withDayOfMonth(1);
+        LocalDate end = month.withDayOfMonth(month.lengthOfMonth());
+
+        Map<LocalDate, SpendingDailySummary> summaries = new HashMap<>();
+        for (SpendingDailySummary summary : spendingSummaryService.getDailySummaries(kakaoId, start, end)) {
+            if (summary.getSpendingCount() > 0) {
+                summaries.put(summary.getDate(), summary);
+            }
+        }
+        Map<LocalDate, String> reactions = new HashMap<>();
+        for (Reaction reaction : reactionRepository.findAllByKakaoIdAndDateBetween(kakaoId, start, end)) {
+            reactions.put(reaction.getDate(), reaction.getReactionType());
+        }
+
+        SortedSet<LocalDate> days = new TreeSet<>(summaries.keySet());
+        days.addAll(reactions.keySet());
+
+        List<DailySpendingSummaryDto> calendar = new ArrayList<>(days.size());
+        for (LocalDate day : days) {
+            SpendingDailySummary summary = summaries.get(day);
+            calendar.add(new DailySpendingSummaryDto(
+                    day.getDayOfMonth(),
+                    summary != null ? summary.getTotalAmount() : BigDecimal.ZERO,
+                    summary != null ? summary.getSpendingCount() : 0L,
+                    reactions.get(day)));
+        }
+        return calendar;
+    }
+
     public List<Spending> getSpendingListByDateRange(Long kakaoId, LocalDate startDate, LocalDate endDate) {
         return spendingRepository.findAllByKakaoIdAndDateBetween(kakaoId, startDate, endDate);
     }
@@ -0,0 +1,33 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.repository.SpendingDailySummaryRepository;
+import com.pjx.pjxserver.repository.SpendingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 기동 시 합계 테이블이 비어 있거나 rebuild-on-startup 설정 시 spending 으로부터 다시 집계
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingSummaryBackfillJob implements ApplicationRunner {
+
+    private final SpendingSummaryService spendingSummaryService;
+    private final SpendingDailySummaryRepository summaryRepository;
+    private final SpendingRepository spendingRepository;
+
+    @Value("${spending.summary.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean missing = summaryRepository.count() == 0 && spendingRepository.count() > 0;
+        if (rebuildOnStartup || missing) {
+            log.info("Backfilling spending_daily_summary (rebuildOnStartup={}, missing={})", rebuildOnStartup, missing);
+            spendingSummaryService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.domain.SpendingDailySummary;
+import com.pjx.pjxserver.repository.SpendingDailySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpendingSummaryService {
+
+    private final SpendingDailySummaryRepository summaryRepository;
+
+    // 지출 변경과 같은 트랜잭션 안에서만 호출 (롤백 시 합계도 함께 롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long kakaoId, LocalDate date, BigDecimal amountDelta, long countDelta) {
+        if (amountDelta.signum() == 0 && countDelta == 0) {
+            return;
+        }
+
+        summaryRepository.upsert(kakaoId, date, amountDelta, countDelta);
+    }
+
+    public BigDecimal getDailyTotal(Long kakaoId, LocalDate date) {
+        return summaryRepository.findByKakaoIdAndDate(kakaoId, date)
+                .map(SpendingDailySummary::getTotalAmount)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    public List<SpendingDailySummary> getDailySummaries(Long kakaoId, LocalDate startDate, LocalDate endDate) {
+        return summaryRepository.findAllByKakaoIdAndDateBetween(kakaoId, startDate, endDate);
+    }
+
+    public BigDecimal getTotal(Long kakaoId, LocalDate startDate, LocalDate endDate) {
+        return summaryRepository.sumTotalAmountByKakaoIdAndDateBetween(kakaoId, startDate, endDate);
+    }
+
+    // spending 테이블로부터 합계 테이블 전체 재생성
+    @Transactional
+    public int rebuild() {
+        summaryRepository.deleteAllInBatch();
+        int rows = summaryRepository.insertAllFromSpending();
+        log.info("Rebuilt spending_daily_summary with {} rows", rows);
+        return rows;
+    }
+}
@@ -0,0 +1,159 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.common.BloomFilter;
+import com.pjx.pjxserver.common.TransactionHooks;
+import com.pjx.pjxserver.domain.User;
+import com.pjx.pjxserver.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+// 사용 중인 userNickname 의 Bloom 필터: 필터에 없으면 DB 조회 없이 "사용 가능", 있을 수도 있을 때만 DB 확인
+// 닉네임 변경/탈퇴로 남은 비트와 다른 인스턴스의 변경은 주기적으로 다시 만들어 정리
+// 인스턴스별 필터라 다른 인스턴스의 변경은 재생성 전까지 놓칠 수 있으므로 입력 중 중복 확인에만 사용
+// (온보딩/닉네임 변경 저장은 항상 DB 로 확인하고 user.user_nickname 유니크 키가 최종적으로 막음)
+@Slf4j
+@Component
+public class UserNicknameFilter implements ApplicationRunner {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final long minExpectedInsertions;
+    private final double targetFalsePositiveRate;
+
+    // 처음 만들기 전(null)에는 모든 확인을 DB 로 보냄
+    private volatile BloomFilter filter;
+    // 다시 만드는 중인 필터 (그동안의 추가도 함께 반영), filter 교체와 추가는 this 로 동기화
+    private BloomFilter building;
+
+    private final Counter definitelyAvailable;
+    private final Counter maybeTaken;
+    private final Counter falsePositives;
+
+    public UserNicknameFilter(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${user.nickname-filter.expected-insertions:100000}") long minExpectedInsertions,
+                              @Value("${user.nickname-filter.false-positive-rate:0.01}") double targetFalsePositiveRate) {
+        this.userRepository = userRepository;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+
+        this.definitelyAvailable = Counter.builder("user_nickname_filter.checks").tag("result", "absent").register(meterRegistry);
+        this.maybeTaken = Counter.builder("user_nickname_filter.checks").tag("result", "maybe").register(meterRegistry);
+        this.falsePositives = Counter.builder("user_nickname_filter.false_positives").register(meterRegistry);
+        // 실제 오탐률: 사용 가능한 닉네임 중 필터가 "있을 수도 있음" 이라고 해서 DB 까지 간 비율
+        Gauge.builder("user_nickname_filter.false_positive_rate", this, UserNicknameFilter::observedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("user_nickname_filter.expected_false_positive_rate", this, f -> {
+            BloomFilter current = f.filter;
+            return current == null ? 1.0 : current.expectedFalsePositiveRate();
+        }).register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${user.nickname-filter.rebuild-interval:PT1H}",
+            initialDelayString = "${user.nickname-filter.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // 필터에 없으면 false (DB 조회 없음), 있을 수도 있으면 dbCheck 결과
+    public boolean isTaken(String userNickname, BooleanSupplier dbCheck) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(key(userNickname))) {
+            definitelyAvailable.increment();
+            return false;
+        }
+        maybeTaken.increment();
+        boolean taken = dbCheck.getAsBoolean();
+        if (!taken && current != null) {
+            falsePositives.increment();
+        }
+        return taken;
+    }
+
+    // 저장 전에 바로 추가하고 (커밋 직후 확인에서 놓치지 않도록) 커밋 후 한 번 더 추가 (그 사이 다시 만든 필터에도 반영)
+    public void added(String userNickname) {
+        if (userNickname == null || userNickname.isEmpty()) {
+            return;
+        }
+        put(userNickname);
+        TransactionHooks.afterCommit(() -> put(userNickname));
+    }
+
+    private synchronized void put(String userNickname) {
+        String key = key(userNickname);
+        if (filter != null) {
+            filter.put(key);
+        }
+        if (building != null) {
+            building.put(key);
+        }
+    }
+
+    public void rebuild() {
+        long expectedInsertions = Math.max(minExpectedInsertions, userRepository.countByUserNicknameIsNotNull() * 2);
+        BloomFilter next = new BloomFilter(expectedInsertions, targetFalsePositiveRate);
+        synchronized (this) {
+            building = next;
+        }
+
+        try {
+            long afterId = 0;
+            List<User> page;
+            do {
+                page = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (User user : page) {
+                    if (user.getUserNickname() != null && !user.getUserNickname().isEmpty()) {
+                        next.put(key(user.getUserNickname()));
+                    }
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                building = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            filter = next;
+            building = null;
+        }
+        log.info("Rebuilt userNickname bloom filter (expectedInsertions={}, estimatedFpr={})",
+                expectedInsertions, next.expectedFalsePositiveRate());
+    }
+
+    private double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double negatives = fp + definitelyAvailable.count();
+        return negatives == 0 ? 0.0 : fp / negatives;
+    }
+
+    // MySQL 기본 콜레이션은 대소문자, 악센트, 끝 공백을 무시하므로 DB 에서 같은 값은 같은 키가 되도록 더 거칠게 정규화
+    // (키가 거칠면 오탐만 늘고 "없음" 을 잘못 답하지는 않음)
+    static String key(String userNickname) {
+        String decomposed = Normalizer.normalize(userNickname, Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT).stripTrailing();
+    }
+}
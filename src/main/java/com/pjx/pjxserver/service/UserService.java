@@ -1,40 +1,54 @@
 package com.pjx.pjxserver.service;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.pjx.pjxserver.common.TransactionHooks;
 import com.pjx.pjxserver.domain.User;
 import com.pjx.pjxserver.dto.OnboardingRequestDto;
 import com.pjx.pjxserver.dto.UserProfileRequestDto;
 import com.pjx.pjxserver.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
 
 import com.pjx.pjxserver.domain.Feed;
-import com.pjx.pjxserver.domain.Friend;
 import com.pjx.pjxserver.repository.FeedRepository;
 import com.pjx.pjxserver.repository.FriendRepository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    // 일괄 팔로우/팔로우 여부 확인 한 번에 처리할 수 있는 최대 사용자 수
+    static final int MAX_BULK_USERS = 100;
+
+    static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
-    private final AmazonS3Client amazonS3Client;
     private final FriendRepository friendRepository;
     private final FeedRepository feedRepository;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final ImageStorageService imageStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ImageObjectService imageObjectService;
+    private final FollowGraphCache followGraphCache;
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final UserNicknameFilter userNicknameFilter;
+    private final TransactionTemplate transactionTemplate;
 
     public String getProfileImageUrl(Long kakaoId) {
         User user = userRepository.findByKakaoId(kakaoId)
@@ -42,44 +56,73 @@ public class UserService {
         return user.getProfileImageUrl();
     }
 
+    // S3 전송은 트랜잭션 밖에서 하고 (전송 동안 DB 커넥션을 잡지 않음) 사용자 변경은 한 트랜잭션으로 처리
+    // 불러온 사용자의 프로필 필드만 바꿔 userNickname 등 다른 값은 그대로 둠
+    // 이전 이미지의 참조 해제는 같은 트랜잭션에서 하고 S3 삭제(release)와 축소본 생성은 커밋 후에만 실행
     public String uploadProfileImage(UserProfileRequestDto requestDto) throws IOException {
         MultipartFile file = requestDto.getProfileImage();
-        String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-        String filePath = "profiles/" + fileName;
-
-        // 파일 확장자에 따른 Content-Type 설정
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(getContentType(file.getOriginalFilename()));
-
-        amazonS3Client.putObject(bucketName, filePath, file.getInputStream(), metadata);
-
-        String fileUrl = amazonS3Client.getUrl(bucketName, filePath).toString();
-        User user = userRepository.findByKakaoId(requestDto.getKakaoId())
-                .orElse(User.builder()
-                        .kakaoId(requestDto.getKakaoId())
-                        .build());
-        user = User.builder()
-                .id(user.getId())
-                .kakaoId(user.getKakaoId())
-                .nickname(user.getNickname())
-                .profileImageUrl(fileUrl)
-                .build();
-        userRepository.save(user);
+        String fileUrl = imageStorageService.upload("profiles/", file);
+        Long kakaoId = requestDto.getKakaoId();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = userRepository.findByKakaoId(kakaoId)
+                        .orElse(User.builder()
+                                .kakaoId(kakaoId)
+                                .build());
+                releaseProfileImage(user.getProfileImageUrl());
+                user.setProfileImageUrl(fileUrl);
+                user.setProfileThumbnailUrl(null);
+                user.setProfileMediumUrl(null);
+                userRepository.save(user);
+            });
+        } catch (RuntimeException e) {
+            // 사용자에 연결하지 못한 새 이미지의 참조 해제
+            releaseProfileImage(fileUrl);
+            throw e;
+        }
+
+        imageVariantService.generateForProfile(kakaoId, fileUrl);
         return fileUrl;
     }
 
+    // 직접 업로드(presigned PUT)가 끝난 프로필 이미지를 사용자에 연결
+    @Transactional
+    public String confirmProfileImage(Long kakaoId, String key) {
+        User user = userRepository.findByKakaoId(kakaoId)
+                .orElseThrow(() -> new IllegalArgumentException("유저 없음."));
+
+        String fileUrl = imageStorageService.confirmUpload("profiles/" + kakaoId + "/", key);
+        releaseProfileImage(user.getProfileImageUrl());
+        user.setProfileImageUrl(fileUrl);
+        user.setProfileThumbnailUrl(null);
+        user.setProfileMediumUrl(null);
+
+        TransactionHooks.afterCommit(() -> imageVariantService.generateForProfile(kakaoId, fileUrl));
+        return fileUrl;
+    }
+
+    // 이전 프로필 이미지의 참조 해제 (카카오 프로필 URL 등 우리 버킷 이미지가 아니면 무시)
+    private void releaseProfileImage(String profileImageUrl) {
+        String key = profileImageUrl == null ? null : imageStorageService.keyOf(profileImageUrl);
+        if (key != null) {
+            imageObjectService.release(key);
+        }
+    }
+
+    @Transactional
     public void deleteProfileImage(Long kakaoId) {
         User user = userRepository.findByKakaoId(kakaoId)
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음."));
-        String filePath = user.getProfileImageUrl().substring(user.getProfileImageUrl().indexOf("profiles/"));
-        amazonS3Client.deleteObject(bucketName, filePath);
-        user = User.builder()
-                .id(user.getId())
-                .kakaoId(user.getKakaoId())
-                .nickname(user.getNickname())
-                .profileImageUrl(null)
-                .build();
-        userRepository.save(user);
+        // 내용 해시로 다른 지출의 spending/ 객체를 공유할 수 있으므로 URL 에서 키를 직접 추출
+        String key = user.getProfileImageUrl() == null ? null : imageStorageService.keyOf(user.getProfileImageUrl());
+        // 같은 내용을 다른 사용자/지출이 공유할 수 있으므로 등록된 이미지는 참조만 해제 (S3 삭제는 release 가 커밋 후 실행)
+        // 등록되지 않은 이미지는 사용자 행이 저장된 뒤에만 원본과 축소본 삭제
+        if (key != null && !imageObjectService.release(key)) {
+            TransactionHooks.afterCommit(() -> imageObjectService.deleteWithVariants(key));
+        }
+        user.setProfileImageUrl(null);
+        user.setProfileThumbnailUrl(null);
+        user.setProfileMediumUrl(null);
     }
 
     public boolean isNicknameAvailable(String nickname) {
@@ -101,8 +144,12 @@ public class UserService {
 
             // 기존 닉네임이 빈 문자열일 경우에만 새 닉네임 설정 허용
             if (user.getUserNickname() == null || user.getUserNickname().trim().isEmpty()) {
+                checkUserNicknameNotTaken(newNickname);
                 user.setUserNickname(newNickname);
-                return userRepository.save(user);
+                User saved = saveWithUserNickname(user);
+                userNicknameFilter.added(newNickname);
+                nicknameSearchIndex.updated(kakaoId, user.getNickname(), newNickname);
+                return saved;
             }
 
             // 기존 닉네임이 설정된 경우 예외 처리
@@ -110,34 +157,73 @@ public class UserService {
         }
 
         // 새로운 닉네임 생성
+        checkUserNicknameNotTaken(newNickname);
         User user = User.builder()
                 .kakaoId(kakaoId)
                 .userNickname(newNickname)
                 .build();
-        return userRepository.save(user);
+        User saved = saveWithUserNickname(user);
+        userNicknameFilter.added(newNickname);
+        nicknameSearchIndex.updated(kakaoId, null, newNickname);
+        return saved;
     }
 
+    // 저장 경로는 Bloom 필터(인스턴스별, 주기적 재생성)를 거치지 않고 항상 DB 로 중복 확인
+    private void checkUserNicknameNotTaken(String userNickname) {
+        if (userRepository.existsByUserNickname(userNickname)) {
+            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
+        }
+    }
 
-
-    // 파일 확장자에 따른 Content-Type 반환 메서드
-    private String getContentType(String fileName) {
-        if (fileName.endsWith(".webp")) {
-            return "image/webp";
-        } else if (fileName.endsWith(".png")) {
-            return "image/png";
-        } else if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else {
-            return "application/octet-stream"; // 기본값
+    // 확인과 저장 사이에 다른 요청(다른 인스턴스 포함)이 같은 닉네임을 저장했으면 유니크 키 위반으로 거절
+    private User saveWithUserNickname(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
         }
     }
 
+
+
     //========================
-    public List<User> searchUsersByNickname(String nickname) {
-        return userRepository.findByNicknameContaining(nickname);
+    // 닉네임 자동완성: 메모리 n-gram 색인에서 순위를 매기고 요청한 페이지의 사용자만 IN 한 번으로 조회
+    public Map<String, Object> searchUsers(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력하세요.");
+        }
+        int pageSize = (size == null || size <= 0) ? DEFAULT_SEARCH_PAGE_SIZE : Math.min(size, MAX_SEARCH_PAGE_SIZE);
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+
+        List<Long> ranked = nicknameSearchIndex.search(query);
+        int from = (int) Math.min((long) pageNumber * pageSize, ranked.size());
+        int to = Math.min(from + pageSize, ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+
+        Map<Long, User> byKakaoId = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            userRepository.findByKakaoIdIn(pageIds).forEach(user -> byKakaoId.put(user.getKakaoId(), user));
+        }
+        List<Map<String, Object>> users = new ArrayList<>(pageIds.size());
+        for (Long kakaoId : pageIds) {
+            User user = byKakaoId.get(kakaoId);
+            if (user != null) {
+                Map<String, Object> entry = toUserEntry(user);
+                entry.put("nickname", user.getNickname());
+                users.add(entry);
+            }
+        }
+
+        return Map.of(
+                "users", users,
+                "page", pageNumber,
+                "size", pageSize,
+                "hasNext", to < ranked.size()
+        );
     }
 
     // 친구 추가 메서드
+    @Transactional
     public String addFriendByKakaoId(Long userKakaoId, String friendNickname, Long friendKakaoId) {
         // 친구 조회 로직 추가 (닉네임이나 카카오 ID를 통해)
         User user = userRepository.findByKakaoId(userKakaoId)
@@ -152,12 +238,11 @@ public class UserService {
                     .orElseThrow(() -> new IllegalArgumentException("해당 닉네임의 친구를 찾을 수 없습니다."));
         }
 
-        // 친구 관계 확인 및 저장
-        if (friendRepository.existsByUserAndFriend(user, friend)) {
+        // 친구 관계 저장 (이미 있으면 영향받은 행 0)
+        if (friendRepository.insertIgnore(user.getKakaoId(), friend.getKakaoId()) == 0) {
             throw new IllegalArgumentException("이미 친구로 등록된 사용자입니다.");
         }
-
-        friendRepository.save(new Friend(user, friend));
+        followGraphCache.followed(user.getKakaoId(), friend.getKakaoId());
         return "친구가 성공적으로 추가되었습니다.";
     }
 
@@ -186,22 +271,21 @@ public class UserService {
         return feedRepository.findByUser(targetUser);
     }
 
+    // 팔로우 그래프 캐시에서 확인 (캐시에 없을 때만 팔로우 목록 한 번 조회)
     public boolean isFollowing(Long userKakaoId, Long friendKakaoId) {
-        User user = userRepository.findByKakaoId(userKakaoId).orElseThrow();
-        User friend = userRepository.findByKakaoId(friendKakaoId).orElseThrow();
-        return friendRepository.existsByUserAndFriend(user, friend);
+        return followGraphCache.isFollowing(userKakaoId, friendKakaoId);
     }
 
+    // 사용자 조회와 중복 확인 없이 한 문장으로 팔로우, 실패했을 때만 원인 확인
     @Transactional
     public String followUser(Long userKakaoId, Long friendKakaoId) {
-        User user = userRepository.findByKakaoId(userKakaoId).orElseThrow();
-        User friend = userRepository.findByKakaoId(friendKakaoId).orElseThrow();
-
-        if (friendRepository.existsByUserAndFriend(user, friend)) {
+        if (friendRepository.insertIgnore(userKakaoId, friendKakaoId) == 0) {
+            userRepository.findByKakaoId(userKakaoId).orElseThrow();
+            userRepository.findByKakaoId(friendKakaoId).orElseThrow();
             throw new IllegalArgumentException("이미 팔로우 중입니다.");
         }
 
-        friendRepository.save(new Friend(user, friend));
+        followGraphCache.followed(userKakaoId, friendKakaoId);
         return "팔로우 성공";
     }
 
@@ -211,6 +295,7 @@ public class UserService {
         User friend = userRepository.findByKakaoId(friendKakaoId).orElseThrow();
 
         friendRepository.deleteByUserAndFriend(user, friend);
+        followGraphCache.unfollowed(user.getKakaoId(), friend.getKakaoId());
         return "언팔로우 성공";
     }
 
@@ -222,13 +307,12 @@ public class UserService {
             throw new IllegalArgumentException("유효한 닉네임을 입력하세요.");
         }
 
-        boolean nicknameExists = userRepository.existsByNickname(newNickname);
-        if (nicknameExists) {
-            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
-        }
+        checkUserNicknameNotTaken(newNickname);
 
         user.setUserNickname(newNickname);
-        userRepository.save(user);
+        saveWithUserNickname(user);
+        userNicknameFilter.added(newNickname);
+        nicknameSearchIndex.updated(kakaoId, user.getNickname(), newNickname);
 
         return "닉네임이 성공적으로 수정되었습니다.";
     }
@@ -242,9 +326,24 @@ public class UserService {
         if (existingUser.isPresent()) {
             // 기존 사용자가 존재하면 업데이트
             User user = existingUser.get();
+            // 카카오 프로필이 그대로면 쓰기 없이 응답
+            if (Objects.equals(user.getNickname(), nickname)
+                    && Objects.equals(user.getProfileImageUrl(), profileImageUrl)) {
+                return Map.of(
+                        "status", "existing",
+                        "message", "기존 회원 정보가 업데이트되었습니다.",
+                        "user", user
+                );
+            }
             user.setNickname(nickname); // 카카오 닉네임 업데이트
+            if (!Objects.equals(user.getProfileImageUrl(), profileImageUrl)) {
+                // 이전 이미지로 만든 축소본은 더 이상 맞지 않음
+                user.setProfileThumbnailUrl(null);
+                user.setProfileMediumUrl(null);
+            }
             user.setProfileImageUrl(profileImageUrl); // 프로필 이미지 업데이트
             userRepository.save(user);
+            nicknameSearchIndex.updated(kakaoId, nickname, user.getUserNickname());
 
             return Map.of(
                     "status", "existing",
@@ -253,13 +352,18 @@ public class UserService {
             );
         } else {
             // 새 사용자를 생성
+            // 비었거나 이미 다른 사용자가 쓰는 닉네임이면 null 로 두고 온보딩에서 정하게 함 (유니크 키)
+            String initialUserNickname = userNickname == null || userNickname.trim().isEmpty()
+                    || userRepository.existsByUserNickname(userNickname) ? null : userNickname;
             User newUser = User.builder()
                     .kakaoId(kakaoId)
                     .nickname(nickname)
-                    .userNickname(userNickname) // 처음 생성 시 userNickname을 빈 문자열로 설정
+                    .userNickname(initialUserNickname)
                     .profileImageUrl(profileImageUrl)
                     .build();
             User savedUser = userRepository.save(newUser);
+            userNicknameFilter.added(initialUserNickname);
+            nicknameSearchIndex.updated(kakaoId, nickname, initialUserNickname);
 
             return Map.of(
                     "status", "new",
@@ -279,7 +383,9 @@ public class UserService {
         if ("".equals(userNickname)) {
             return false; // 빈 닉네임은 유효하지 않음
         }
-        return !userRepository.existsByUserNickname(userNickname); // 중복 여부 반환
+        // 입력 중 확인용: Bloom 필터에 없으면 DB 조회 없이 사용 가능, 있을 수도 있을 때만 중복 여부 조회
+        // 다른 인스턴스에서 방금 정한 닉네임은 재생성 전까지 사용 가능으로 보일 수 있으나 저장 시 DB 확인과 유니크 키로 막음
+        return !userNicknameFilter.isTaken(userNickname, () -> userRepository.existsByUserNickname(userNickname));
     }
 
 
@@ -287,17 +393,16 @@ public class UserService {
     //
     @Transactional
     public String followUserByUserNickname(Long userKakaoId, String friendUserNickname) {
-        User user = userRepository.findByKakaoId(userKakaoId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         User friend = userRepository.findByUserNickname(friendUserNickname)
                 .orElseThrow(() -> new IllegalArgumentException("해당 UserNickname의 친구를 찾을 수 없습니다."));
 
-        if (friendRepository.existsByUserAndFriend(user, friend)) {
+        if (friendRepository.insertIgnore(userKakaoId, friend.getKakaoId()) == 0) {
+            userRepository.findByKakaoId(userKakaoId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
             throw new IllegalArgumentException("이미 팔로우 중입니다.");
         }
 
-        friendRepository.save(new Friend(user, friend));
+        followGraphCache.followed(userKakaoId, friend.getKakaoId());
         return "팔로우 성공";
     }
 
@@ -310,16 +415,156 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 UserNickname의 친구를 찾을 수 없습니다."));
 
         friendRepository.deleteByUserAndFriend(user, friend);
+        followGraphCache.unfollowed(user.getKakaoId(), friend.getKakaoId());
         return "언팔로우 성공";
     }
 
     public boolean isFollowingByUserNickname(Long userKakaoId, String friendUserNickname) {
-        User user = userRepository.findByKakaoId(userKakaoId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         User friend = userRepository.findByUserNickname(friendUserNickname)
                 .orElseThrow(() -> new IllegalArgumentException("해당 UserNickname의 친구를 찾을 수 없습니다."));
 
-        return friendRepository.existsByUserAndFriend(user, friend);
+        return followGraphCache.isFollowing(userKakaoId, friend.getKakaoId());
+    }
+
+    // 닉네임/kakaoId 목록의 팔로우 여부를 한 번에 확인 (사용자는 IN 한 번, 관계는 팔로우 그래프 캐시)
+    public Map<String, Object> getFollowStatuses(Long userKakaoId, List<String> userNicknames, List<Long> kakaoIds) {
+        ResolvedUsers targets = resolveUsers(userNicknames, kakaoIds);
+        long[] following = followGraphCache.getFollowing(userKakaoId);
+
+        List<Map<String, Object>> statuses = new ArrayList<>(targets.users().size());
+        for (User target : targets.users()) {
+            Map<String, Object> status = toUserEntry(target);
+            status.put("isFollowing", Arrays.binarySearch(following, target.getKakaoId()) >= 0);
+            statuses.add(status);
+        }
+        return Map.of(
+                "statuses", statuses,
+                "notFound", targets.notFound()
+        );
+    }
+
+    // 여러 사용자를 한 번에 팔로우 (사용자 IN 조회, 기존 관계 IN 조회, INSERT IGNORE 한 문장)
+    // 호출한 사용자 행을 잠가 같은 사용자의 일괄 요청을 차례로 처리하므로 조회한 기존 관계가 INSERT 까지 유지됨
+    // 잠그지 않는 단건 팔로우/언팔로우가 그 사이에 끼어 추가된 행 수가 예상과 다르면 롤백하고 다시 시도하게 함
+    @Transactional
+    public Map<String, Object> followUsers(Long userKakaoId, List<String> userNicknames, List<Long> kakaoIds) {
+        ResolvedUsers targets = resolveUsers(userNicknames, kakaoIds);
+        userRepository.findByKakaoIdForUpdate(userKakaoId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        List<Long> targetIds = targets.kakaoIds();
+        Set<Long> alreadyFollowing = new HashSet<>();
+        List<Long> newlyFollowed = List.of();
+        if (!targetIds.isEmpty()) {
+            alreadyFollowing.addAll(friendRepository.findFollowingKakaoIdsIn(userKakaoId, targetIds));
+            newlyFollowed = targetIds.stream().filter(id -> !alreadyFollowing.contains(id)).toList();
+        }
+        if (!newlyFollowed.isEmpty()) {
+            int inserted = friendRepository.insertIgnoreAll(userKakaoId, newlyFollowed);
+            if (inserted != newlyFollowed.size()) {
+                throw new IllegalStateException("동시에 처리 중인 팔로우 요청이 있습니다. 다시 시도해 주세요.");
+            }
+            followGraphCache.followedAll(userKakaoId, newlyFollowed);
+        }
+
+        List<Map<String, Object>> followed = new ArrayList<>();
+        List<Map<String, Object>> skipped = new ArrayList<>();
+        for (User target : targets.users()) {
+            (alreadyFollowing.contains(target.getKakaoId()) ? skipped : followed).add(toUserEntry(target));
+        }
+        return Map.of(
+                "followed", followed,
+                "alreadyFollowing", skipped,
+                "notFound", targets.notFound()
+        );
+    }
+
+    // 여러 사용자를 한 번에 언팔로우 (사용자 IN 조회, 기존 관계 IN 조회, DELETE 한 문장)
+    // 일괄 팔로우와 같은 이유로 호출한 사용자 행을 잠그고 삭제된 행 수로 확인
+    @Transactional
+    public Map<String, Object> unfollowUsers(Long userKakaoId, List<String> userNicknames, List<Long> kakaoIds) {
+        ResolvedUsers targets = resolveUsers(userNicknames, kakaoIds);
+        userRepository.findByKakaoIdForUpdate(userKakaoId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        List<Long> targetIds = targets.kakaoIds();
+        Set<Long> following = new HashSet<>();
+        if (!targetIds.isEmpty()) {
+            following.addAll(friendRepository.findFollowingKakaoIdsIn(userKakaoId, targetIds));
+        }
+        if (!following.isEmpty()) {
+            List<Long> unfollowedIds = List.copyOf(following);
+            int deleted = friendRepository.deleteAllByKakaoIds(userKakaoId, unfollowedIds);
+            if (deleted != unfollowedIds.size()) {
+                throw new IllegalStateException("동시에 처리 중인 언팔로우 요청이 있습니다. 다시 시도해 주세요.");
+            }
+            followGraphCache.unfollowedAll(userKakaoId, unfollowedIds);
+        }
+
+        List<Map<String, Object>> unfollowed = new ArrayList<>();
+        List<Map<String, Object>> skipped = new ArrayList<>();
+        for (User target : targets.users()) {
+            (following.contains(target.getKakaoId()) ? unfollowed : skipped).add(toUserEntry(target));
+        }
+        return Map.of(
+                "unfollowed", unfollowed,
+                "notFollowing", skipped,
+                "notFound", targets.notFound()
+        );
+    }
+
+    private record ResolvedUsers(List<User> users, List<String> notFound) {
+        List<Long> kakaoIds() {
+            return users.stream().map(User::getKakaoId).toList();
+        }
+    }
+
+    // 닉네임과 kakaoId 를 각각 IN 한 번으로 조회, 입력 순서 유지, 같은 사용자는 한 번만
+    private ResolvedUsers resolveUsers(List<String> userNicknames, List<Long> kakaoIds) {
+        List<String> nicknames = userNicknames == null ? List.of() : userNicknames.stream().distinct().toList();
+        List<Long> ids = kakaoIds == null ? List.of() : kakaoIds.stream().distinct().toList();
+        int total = nicknames.size() + ids.size();
+        if (total == 0 || total > MAX_BULK_USERS) {
+            throw new IllegalArgumentException("사용자는 1~" + MAX_BULK_USERS + "명까지 한 번에 처리할 수 있습니다.");
+        }
+
+        Map<Long, User> users = new LinkedHashMap<>();
+        List<String> notFound = new ArrayList<>();
+        if (!nicknames.isEmpty()) {
+            // DB 콜레이션은 대소문자/악센트를 무시하고 찾으므로 돌려받은 값과 요청 값을 같은 방식으로 정규화해서 대조
+            Map<String, User> byNickname = new LinkedHashMap<>();
+            userRepository.findByUserNicknameIn(nicknames)
+                    .forEach(user -> byNickname.putIfAbsent(UserNicknameFilter.key(user.getUserNickname()), user));
+            for (String nickname : nicknames) {
+                User user = byNickname.get(UserNicknameFilter.key(nickname));
+                if (user == null) {
+                    notFound.add(nickname);
+                } else {
+                    users.putIfAbsent(user.getKakaoId(), user);
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            Map<Long, User> byKakaoId = new LinkedHashMap<>();
+            userRepository.findByKakaoIdIn(ids).forEach(user -> byKakaoId.put(user.getKakaoId(), user));
+            for (Long kakaoId : ids) {
+                User user = byKakaoId.get(kakaoId);
+                if (user == null) {
+                    notFound.add(String.valueOf(kakaoId));
+                } else {
+                    users.putIfAbsent(kakaoId, user);
+                }
+            }
+        }
+        return new ResolvedUsers(List.copyOf(users.values()), notFound);
+    }
+
+    // userNickname 은 온보딩 전이면 null 이므로 Map.of 대신 LinkedHashMap 사용
+    private static Map<String, Object> toUserEntry(User user) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("kakaoId", user.getKakaoId());
+        entry.put("userNickname", user.getUserNickname());
+        entry.put("profileImageUrl", user.getProfileImageUrl());
+        return entry;
     }
 }
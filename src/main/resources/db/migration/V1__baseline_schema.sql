@@ -0,0 +1,87 @@
+-- ddl-auto: update 로 만들어지던 기존 스키마 (기존 DB는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+create table user (
+    id                bigint       not null auto_increment,
+    kakao_id          bigint       not null,
+    nickname          varchar(255) not null,
+    user_nickname     varchar(255),
+    profile_image_url varchar(255),
+    primary key (id),
+    constraint uk_user_kakao_id unique (kakao_id),
+    constraint uk_user_nickname unique (nickname)
+) engine = InnoDB;
+
+create table spending (
+    id          bigint         not null auto_increment,
+    kakao_id    bigint         not null,
+    amount      decimal(38, 2) not null,
+    description varchar(255)   not null,
+    note        varchar(255),
+    date        date           not null,
+    user_id     bigint,
+    primary key (id),
+    constraint fk_spending_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+create table spending_images (
+    spending_id bigint not null,
+    images      varchar(255),
+    constraint fk_spending_images_spending foreign key (spending_id) references spending (id)
+) engine = InnoDB;
+
+create table spending_reactions (
+    spending_id   bigint not null,
+    kakao_id      bigint not null,
+    reaction_type varchar(255),
+    primary key (spending_id, kakao_id),
+    constraint fk_spending_reactions_spending foreign key (spending_id) references spending (id)
+) engine = InnoDB;
+
+create table reaction (
+    id            bigint not null auto_increment,
+    kakao_id      bigint,
+    date          date,
+    reaction_type varchar(255),
+    spending_id   bigint,
+    primary key (id),
+    constraint fk_reaction_spending foreign key (spending_id) references spending (id)
+) engine = InnoDB;
+
+create table spending_goal (
+    id               bigint         not null auto_increment,
+    user_id          bigint         not null,
+    monthly_goal     decimal(38, 2) not null,
+    current_spending decimal(38, 2) not null,
+    goal_date        date           not null,
+    primary key (id),
+    constraint uk_spending_goal_user_id unique (user_id),
+    constraint fk_spending_goal_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+create table expense (
+    id      bigint         not null auto_increment,
+    user_id bigint         not null,
+    date    date           not null,
+    amount  decimal(38, 2) not null,
+    primary key (id),
+    constraint fk_expense_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+create table feed (
+    id      bigint not null auto_increment,
+    user_id bigint not null,
+    content varchar(255),
+    date    datetime(6),
+    amount  integer,
+    primary key (id),
+    constraint fk_feed_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+create table friend (
+    id        bigint not null auto_increment,
+    user_id   bigint not null,
+    friend_id bigint not null,
+    primary key (id),
+    constraint fk_friend_user foreign key (user_id) references user (id),
+    constraint fk_friend_friend foreign key (friend_id) references user (id)
+) engine = InnoDB;
@@ -0,0 +1,11 @@
+-- 사용자별 일일 지출 합계 (ddl-auto 로 이미 만들어진 DB 도 있으므로 if not exists)
+
+create table if not exists spending_daily_summary (
+    id             bigint         not null auto_increment,
+    kakao_id       bigint         not null,
+    date           date           not null,
+    total_amount   decimal(38, 2) not null,
+    spending_count bigint         not null,
+    primary key (id),
+    constraint uk_spending_daily_summary_kakao_id_date unique (kakao_id, date)
+) engine = InnoDB;
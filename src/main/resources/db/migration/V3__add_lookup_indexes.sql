@@ -0,0 +1,8 @@
+-- 주요 조회 조건(kakao_id + date 등)에 맞춘 복합 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (kakao_id, date) 인덱스로 date, id 정렬까지 처리됨
+
+create index idx_spending_kakao_id_date on spending (kakao_id, date);
+
+create index idx_reaction_kakao_id_date on reaction (kakao_id, date);
+
+create index idx_user_user_nickname on user (user_nickname);
@@ -0,0 +1,12 @@
+-- 서버에서 생성한 썸네일/중간 크기 이미지 URL
+create table spending_image_variants (
+    spending_id   bigint       not null,
+    original_url  varchar(255) not null,
+    thumbnail_url varchar(255) not null,
+    medium_url    varchar(255) not null,
+    constraint fk_spending_image_variants_spending foreign key (spending_id) references spending (id)
+) engine = InnoDB;
+
+alter table user
+    add column profile_thumbnail_url varchar(255),
+    add column profile_medium_url varchar(255);
@@ -0,0 +1,11 @@
+-- 이미지 내용 해시 -> S3 키 색인 (중복 업로드 제거, 참조 수 기반 삭제)
+create table image_object (
+    id           bigint       not null auto_increment,
+    content_hash varchar(64)  not null,
+    s3_key       varchar(255) not null,
+    ref_count    bigint       not null,
+    created_at   datetime(6)  not null,
+    primary key (id),
+    constraint uk_image_object_content_hash unique (content_hash),
+    constraint uk_image_object_s3_key unique (s3_key)
+) engine = InnoDB;
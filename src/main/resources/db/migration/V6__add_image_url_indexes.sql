@@ -0,0 +1,5 @@
+-- 고아 이미지 정리 작업에서 URL 로 참조 여부를 조회할 때 사용
+create index idx_spending_images_images on spending_images (images);
+create index idx_spending_image_variants_original_url on spending_image_variants (original_url);
+create index idx_spending_image_variants_thumbnail_url on spending_image_variants (thumbnail_url);
+create index idx_spending_image_variants_medium_url on spending_image_variants (medium_url);
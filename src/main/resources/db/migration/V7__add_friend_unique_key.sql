@@ -0,0 +1,6 @@
+-- 동시 팔로우 요청으로 생긴 중복 관계를 먼저 정리 (가장 먼저 만들어진 행만 남김)
+delete f1 from friend f1
+    join friend f2 on f1.user_id = f2.user_id and f1.friend_id = f2.friend_id and f1.id > f2.id;
+
+-- 팔로우 관계는 (user_id, friend_id) 당 한 행, INSERT IGNORE 로 한 번에 팔로우
+alter table friend add constraint uk_friend_user_friend unique (user_id, friend_id);
@@ -0,0 +1,15 @@
+-- 빈 문자열은 "아직 닉네임 없음" 이므로 NULL 로 통일 (유니크 키는 NULL 중복을 허용)
+update user set user_nickname = null where trim(user_nickname) = '';
+
+-- 이미 중복된 닉네임은 가장 먼저 만든 사용자만 그대로 두고 나머지는 id 를 붙여 구분
+update user u
+    join (select user_nickname, min(id) as keep_id
+          from user
+          where user_nickname is not null
+          group by user_nickname
+          having count(*) > 1) d on u.user_nickname = d.user_nickname and u.id <> d.keep_id
+set u.user_nickname = concat(u.user_nickname, '_', u.id);
+
+-- 닉네임 중복은 DB 가 최종적으로 막음 (조회 인덱스도 이 유니크 키가 대신함)
+drop index idx_user_user_nickname on user;
+alter table user add constraint uk_user_user_nickname unique (user_nickname);
@@ -0,0 +1,5 @@
+-- 고아 이미지 정리 작업에서 S3 페이지마다 프로필 URL(원본, 축소본)로 참조 여부를 조회할 때 사용
+-- 중복 제거로 프로필이 spending/ 객체를 가리킬 수 있어 profiles/ 키만 따로 거를 수 없으므로 세 컬럼 모두 색인
+create index idx_user_profile_image_url on user (profile_image_url);
+create index idx_user_profile_thumbnail_url on user (profile_thumbnail_url);
+create index idx_user_profile_medium_url on user (profile_medium_url);
@@ -0,0 +1,115 @@
+package com.pjx.pjxserver.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pjx.pjxserver.common.JwtUtil;
+import com.pjx.pjxserver.common.KakaoUserInfoCache;
+import com.pjx.pjxserver.domain.User;
+import com.pjx.pjxserver.dto.KakaoUserInfoResponseDto;
+import com.pjx.pjxserver.service.KakaoService;
+import com.pjx.pjxserver.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로그인 폭주 시 DB 지연이 이벤트 루프를 막지 않는지 확인
+// 이벤트 루프 2개, DB 저장 200ms: 이벤트 루프에서 저장하면 40건에 약 4초, loginScheduler(20) 에서는 약 0.4초
+class KakaoLoginControllerTest {
+
+    private static final int LOGINS = 40;
+    private static final long DB_LATENCY_MILLIS = 200;
+
+    private Scheduler eventLoop;
+    private Scheduler loginScheduler;
+    private KakaoService kakaoService;
+    private UserService userService;
+    private KakaoLoginController controller;
+
+    private final Set<String> dbThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        eventLoop = Schedulers.newParallel("event-loop", 2);
+        loginScheduler = Schedulers.newBoundedElastic(20, 1000, "kakao-login");
+
+        KakaoUserInfoResponseDto userInfo = new ObjectMapper().readValue(
+                "{\"id\": 3748591023, \"properties\": {\"nickname\": \"카카오\", \"profile_image\": \"http://k.kakaocdn.net/p.jpg\"}}",
+                KakaoUserInfoResponseDto.class);
+
+        // WebClient 응답처럼 이벤트 루프 스레드에서 결과를 내보냄
+        kakaoService = mock(KakaoService.class);
+        when(kakaoService.getUserInfo(anyString()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(5), eventLoop).map(tick -> userInfo));
+
+        userService = mock(UserService.class);
+        when(userService.saveOrUpdateUser(anyLong(), any(), any(), any())).thenAnswer(invocation -> {
+            dbThreads.add(Thread.currentThread().getName());
+            Thread.sleep(DB_LATENCY_MILLIS);
+            return Map.of(
+                    "status", "existing",
+                    "message", "기존 회원 정보가 업데이트되었습니다.",
+                    "user", User.builder().kakaoId(invocation.getArgument(0)).build()
+            );
+        });
+
+        controller = new KakaoLoginController(kakaoService, userService, new JwtUtil(),
+                new KakaoUserInfoCache(1000, 60), loginScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.dispose();
+        loginScheduler.dispose();
+    }
+
+    @Test
+    void loginBurstDoesNotBlockEventLoopOnDbLatency() {
+        long start = System.nanoTime();
+        List<ResponseEntity<Map<String, Object>>> responses = Flux.range(0, LOGINS)
+                .flatMap(i -> controller.saveOrUpdateUserInfo("token-" + i), LOGINS)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(responses).hasSize(LOGINS)
+                .allSatisfy(response -> assertThat(response.getBody()).containsKey("jwtToken"));
+        assertThat(dbThreads).allMatch(name -> name.startsWith("kakao-login"));
+        assertThat(elapsed).isLessThan(Duration.ofMillis(LOGINS * DB_LATENCY_MILLIS / 4));
+    }
+
+    @Test
+    void repeatedLoginWithSameTokenSkipsKakaoCallAndWrite() {
+        when(userService.getUserByKakaoId(anyLong()))
+                .thenAnswer(invocation -> Optional.of(User.builder().kakaoId(invocation.getArgument(0)).build()));
+
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<Map<String, Object>> response = controller.saveOrUpdateUserInfo("same-token")
+                    .block(Duration.ofSeconds(5));
+            assertThat(response.getBody()).containsKey("jwtToken");
+        }
+
+        verify(kakaoService, times(1)).getUserInfo("same-token");
+        verify(userService, times(1)).saveOrUpdateUser(anyLong(), any(), any(), any());
+        verify(userService, times(2)).getUserByKakaoId(3748591023L);
+    }
+}
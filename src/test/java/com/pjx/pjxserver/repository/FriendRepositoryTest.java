@@ -0,0 +1,149 @@
+package com.pjx.pjxserver.repository;
+
+import com.pjx.pjxserver.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 팔로우를 여러 스레드에서 동시에 눌러도 행은 하나, 성공(영향받은 행 1)도 한 번뿐인지 확인
+// 각 스레드가 자기 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FriendRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder().kakaoId(1L).nickname("follower").build());
+        userRepository.save(User.builder().kakaoId(2L).nickname("followee").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        friendRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentFollowsInsertExactlyOneRow() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int inserted = 0;
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        inserted += tx.execute(status -> friendRepository.insertIgnore(1L, 2L));
+                    }
+                    return inserted;
+                }));
+            }
+            start.countDown();
+
+            int inserted = 0;
+            for (Future<Integer> result : results) {
+                inserted += result.get();
+            }
+
+            assertThat(inserted).isEqualTo(1);
+            assertThat(friendRepository.count()).isEqualTo(1);
+            assertThat(friendRepository.existsByUser_KakaoIdAndFriend_KakaoId(1L, 2L)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void followOfMissingUserInsertsNothing() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        assertThat(tx.execute(status -> friendRepository.insertIgnore(1L, 999L))).isZero();
+        assertThat(friendRepository.count()).isZero();
+    }
+
+    @Test
+    void bulkFollowAndUnfollowAreSetBased() {
+        userRepository.save(User.builder().kakaoId(3L).nickname("third").build());
+        userRepository.save(User.builder().kakaoId(4L).nickname("fourth").build());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.execute(status -> friendRepository.insertIgnore(1L, 2L));
+
+        assertThat(friendRepository.findFollowingKakaoIdsIn(1L, List.of(2L, 3L, 4L))).containsExactly(2L);
+        assertThat(tx.execute(status -> friendRepository.insertIgnoreAll(1L, List.of(2L, 3L, 4L, 999L)))).isEqualTo(2);
+        assertThat(friendRepository.findFollowingKakaoIdsIn(1L, List.of(2L, 3L, 4L))).containsExactlyInAnyOrder(2L, 3L, 4L);
+
+        assertThat(tx.execute(status -> friendRepository.deleteAllByKakaoIds(1L, List.of(2L, 4L, 999L)))).isEqualTo(2);
+        assertThat(friendRepository.findFollowingKakaoIdsIn(1L, List.of(2L, 3L, 4L))).containsExactly(3L);
+    }
+
+    // 일괄 팔로우처럼 호출한 사용자 행을 잠근 뒤 기존 관계를 조회하면, 동시에 같은 대상을 팔로우해도 각 대상은 한 번만 새로 팔로우됨
+    @Test
+    void concurrentBulkFollowsReportEachTargetOnce() throws Exception {
+        userRepository.save(User.builder().kakaoId(3L).nickname("third").build());
+        userRepository.save(User.builder().kakaoId(4L).nickname("fourth").build());
+        List<Long> targets = List.of(2L, 3L, 4L);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return tx.execute(status -> {
+                        userRepository.findByKakaoIdForUpdate(1L).orElseThrow();
+                        List<Long> following = friendRepository.findFollowingKakaoIdsIn(1L, targets);
+                        List<Long> candidates = targets.stream().filter(id -> !following.contains(id)).toList();
+                        int inserted = candidates.isEmpty() ? 0 : friendRepository.insertIgnoreAll(1L, candidates);
+                        assertThat(inserted).isEqualTo(candidates.size());
+                        return inserted;
+                    });
+                }));
+            }
+            start.countDown();
+
+            int reportedNew = 0;
+            for (Future<Integer> result : results) {
+                reportedNew += result.get();
+            }
+
+            assertThat(reportedNew).isEqualTo(targets.size());
+            assertThat(friendRepository.count()).isEqualTo(targets.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.pjx.pjxserver.repository;
+
+import com.pjx.pjxserver.domain.ImageObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내용 해시 색인의 참조 수 증감과 0 일 때만 삭제되는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ImageObjectRepositoryTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Autowired
+    private ImageObjectRepository imageObjectRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void concurrentFirstUploadsShareTheFirstKey() {
+        imageObjectRepository.upsert(HASH, "spending/first.jpg");
+        imageObjectRepository.upsert(HASH, "spending/second.jpg");
+        em.clear();
+
+        ImageObject stored = imageObjectRepository.findByContentHash(HASH).orElseThrow();
+        assertThat(stored.getS3Key()).isEqualTo("spending/first.jpg");
+        assertThat(stored.getRefCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rowIsDeletedOnlyAfterLastReferenceIsReleased() {
+        imageObjectRepository.upsert(HASH, "spending/first.jpg");
+        assertThat(imageObjectRepository.incrementRefCountByContentHash(HASH)).isEqualTo(1);
+
+        assertThat(imageObjectRepository.decrementRefCount("spending/first.jpg")).isEqualTo(1);
+        assertThat(imageObjectRepository.deleteUnreferenced("spending/first.jpg")).isZero();
+
+        assertThat(imageObjectRepository.decrementRefCount("spending/first.jpg")).isEqualTo(1);
+        assertThat(imageObjectRepository.deleteUnreferenced("spending/first.jpg")).isEqualTo(1);
+
+        assertThat(imageObjectRepository.decrementRefCount("spending/first.jpg")).isZero();
+        assertThat(imageObjectRepository.incrementRefCountByContentHash(HASH)).isZero();
+    }
+}
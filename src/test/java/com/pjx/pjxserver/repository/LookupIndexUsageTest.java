@@ -0,0 +1,124 @@
+package com.pjx.pjxserver.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 운영과 같은 MySQL 에 db/migration 스크립트(V1~)를 Flyway 로 적용한 스키마에서 확인
+// - 모든 마이그레이션이 적용되고 엔티티와 일치하는지 (ddl-auto: validate 로 컨텍스트가 떠야 함)
+// - 마이그레이션으로 만든 인덱스가 실제 조회 조건의 실행 계획에서 사용되는지
+// - user_nickname 유니크 키가 중복 닉네임을 막는지
+// test 프로필(H2, create-drop) 대신 application.yml 설정을 그대로 쓰고 DB 만 컨테이너로 교체
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LookupIndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() {
+        LocalDate start = LocalDate.of(2024, 11, 1);
+        List<Object[]> spendings = new ArrayList<>();
+        List<Object[]> reactions = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Date date = Date.valueOf(start.plusDays(i % 30));
+            spendings.add(new Object[]{1000L + i % 50, 1000 + i, "점심", date});
+            reactions.add(new Object[]{1000L + i % 50, date, "HAPPY"});
+            users.add(new Object[]{1000L + i, "카카오" + i, "닉네임" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (kakao_id, nickname, user_nickname) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO spending (kakao_id, amount, description, date) VALUES (?, ?, ?, ?)", spendings);
+        jdbcTemplate.batchUpdate("INSERT INTO reaction (kakao_id, date, reaction_type) VALUES (?, ?, ?)", reactions);
+        jdbcTemplate.execute("ANALYZE TABLE user, spending, reaction");
+    }
+
+    @Test
+    void allMigrationsAreApplied() {
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 AND version IS NOT NULL ORDER BY installed_rank",
+                String.class);
+
+        assertThat(applied).startsWith("1", "2", "3", "4", "5", "6", "7", "8", "9");
+    }
+
+    @Test
+    void spendingByKakaoIdAndDateUsesCompositeIndex() {
+        assertThat(explainKeys("SELECT * FROM spending WHERE kakao_id = 1001 AND date = DATE '2024-11-24'"))
+                .contains("idx_spending_kakao_id_date");
+    }
+
+    @Test
+    void spendingByKakaoIdAndDateRangeUsesCompositeIndex() {
+        assertThat(explainKeys("SELECT * FROM spending WHERE kakao_id = 1001 AND date BETWEEN DATE '2024-11-01' AND DATE '2024-11-30'"))
+                .contains("idx_spending_kakao_id_date");
+    }
+
+    @Test
+    void reactionByKakaoIdAndDateRangeUsesCompositeIndex() {
+        assertThat(explainKeys("SELECT * FROM reaction WHERE kakao_id = 1001 AND date BETWEEN DATE '2024-11-01' AND DATE '2024-11-30'"))
+                .contains("idx_reaction_kakao_id_date");
+    }
+
+    @Test
+    void userByUserNicknameUsesUniqueKey() {
+        assertThat(explainKeys("SELECT * FROM user WHERE user_nickname = '닉네임7'"))
+                .contains("uk_user_user_nickname");
+    }
+
+    @Test
+    void profileUrlLookupsUseIndexes() {
+        assertThat(explainKeys("SELECT profile_image_url FROM user WHERE profile_image_url IN ('a', 'b')"))
+                .contains("idx_user_profile_image_url");
+        assertThat(explainKeys("SELECT profile_thumbnail_url FROM user WHERE profile_thumbnail_url IN ('a', 'b')"))
+                .contains("idx_user_profile_thumbnail_url");
+        assertThat(explainKeys("SELECT profile_medium_url FROM user WHERE profile_medium_url IN ('a', 'b')"))
+                .contains("idx_user_profile_medium_url");
+    }
+
+    @Test
+    void duplicateUserNicknameIsRejected() {
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO user (kakao_id, nickname, user_nickname) VALUES (?, ?, ?)", 9999L, "카카오중복", "닉네임7"))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    // EXPLAIN 각 행의 key 컬럼 (실제로 선택된 인덱스)
+    private List<String> explainKeys(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                .map(row -> (String) row.get("key"))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.pjx.pjxserver.repository;
+
+import com.pjx.pjxserver.domain.Friend;
+import com.pjx.pjxserver.domain.ImageVariant;
+import com.pjx.pjxserver.domain.Spending;
+import com.pjx.pjxserver.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 조회에서 images, 썸네일(imageVariants), reactions, user 접근 시 지출 건수와 관계없이 실행되는 쿼리 수가 고정인지 확인
+// (지출 목록 1 + 작성자 1 + images 1 + imageVariants 1 + reactions 1)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SpendingCollectionFetchTest {
+
+    private static final long STATEMENTS_PER_LIST = 5;
+
+    private static final LocalDate SMALL_DAY = LocalDate.of(2024, 11, 1);
+    private static final LocalDate LARGE_DAY = LocalDate.of(2024, 11, 2);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SpendingRepository spendingRepository;
+
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        owner = em.persist(user(1L));
+        persistSpendings(owner, SMALL_DAY, 3);
+        persistSpendings(owner, LARGE_DAY, 40);
+
+        for (long friendKakaoId = 2; friendKakaoId <= 4; friendKakaoId++) {
+            User friend = em.persist(user(friendKakaoId));
+            em.persist(new Friend(owner, friend));
+            persistSpendings(friend, LARGE_DAY, 20);
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void spendingListByDateUsesFixedStatementCount() {
+        long small = countStatements(() -> spendingRepository.findByKakaoIdAndDate(1L, SMALL_DAY));
+        long large = countStatements(() -> spendingRepository.findByKakaoIdAndDate(1L, LARGE_DAY));
+
+        assertThat(small).isEqualTo(STATEMENTS_PER_LIST);
+        assertThat(large).isEqualTo(STATEMENTS_PER_LIST);
+    }
+
+    @Test
+    void friendFeedUsesFixedStatementCount() {
+        long small = countStatements(() -> spendingRepository.findFriendFeed(1L, PageRequest.of(0, 3)));
+        long large = countStatements(() -> spendingRepository.findFriendFeed(1L, PageRequest.of(0, 50)));
+
+        assertThat(small).isEqualTo(STATEMENTS_PER_LIST);
+        assertThat(large).isEqualTo(STATEMENTS_PER_LIST);
+    }
+
+    private long countStatements(Supplier<List<Spending>> listCall) {
+        em.clear();
+        statistics.clear();
+
+        List<Spending> spendings = listCall.get();
+        assertThat(spendings).isNotEmpty();
+        for (Spending spending : spendings) {
+            spending.getUser().getKakaoId();
+            spending.getImages().size();
+            // 목록 응답(toFriendSpendingSummaries, /list)이 쓰는 썸네일 URL
+            assertThat(spending.getThumbnailUrls()).hasSize(2);
+            spending.getReactions().size();
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistSpendings(User user, LocalDate date, int count) {
+        for (int i = 0; i < count; i++) {
+            Map<Long, String> reactions = new HashMap<>();
+            reactions.put(1L, "HAPPY");
+            em.persist(Spending.builder()
+                    .kakaoId(user.getKakaoId())
+                    .amount(BigDecimal.valueOf(1000 + i))
+                    .description("점심")
+                    .date(date)
+                    .images(new ArrayList<>(List.of("a.jpg", "b.jpg")))
+                    // 짝수 번째만 축소본이 생성된 상태 (나머지는 원본으로 대체)
+                    .imageVariants(i % 2 == 0
+                            ? new ArrayList<>(List.of(new ImageVariant("a.jpg", "thumbnails/a.jpg", "medium/a.jpg")))
+                            : new ArrayList<>())
+                    .reactions(reactions)
+                    .user(user)
+                    .build());
+        }
+    }
+
+    private static User user(long kakaoId) {
+        return User.builder()
+                .kakaoId(kakaoId)
+                .nickname("카카오" + kakaoId)
+                .userNickname("닉네임" + kakaoId)
+                .build();
+    }
+}
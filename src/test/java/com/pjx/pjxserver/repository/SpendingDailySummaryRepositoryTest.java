@@ -0,0 +1,91 @@
+package com.pjx.pjxserver.repository;
+
+import com.pjx.pjxserver.domain.SpendingDailySummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 (kakaoId, date) 의 첫 지출이 동시에 여러 건 들어와도 유니크 키 충돌 없이 한 행에 모두 더해지는지 확인
+// 각 스레드가 자기 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SpendingDailySummaryRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int SPENDINGS_PER_THREAD = 25;
+    private static final LocalDate DATE = LocalDate.of(2024, 11, 20);
+
+    @Autowired
+    private SpendingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        summaryRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentFirstSpendingsOfTheDayAccumulateIntoOneRow() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < SPENDINGS_PER_THREAD; i++) {
+                        tx.executeWithoutResult(status ->
+                                summaryRepository.upsert(1L, DATE, new BigDecimal("1000.50"), 1L));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+
+            SpendingDailySummary summary = summaryRepository.findByKakaoIdAndDate(1L, DATE).orElseThrow();
+            assertThat(summaryRepository.count()).isEqualTo(1);
+            assertThat(summary.getSpendingCount()).isEqualTo(THREADS * SPENDINGS_PER_THREAD);
+            assertThat(summary.getTotalAmount())
+                    .isEqualByComparingTo(new BigDecimal("1000.50").multiply(BigDecimal.valueOf(THREADS * SPENDINGS_PER_THREAD)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void negativeDeltaSubtractsFromExistingRow() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> summaryRepository.upsert(1L, DATE, new BigDecimal("3000"), 2L));
+        tx.executeWithoutResult(status -> summaryRepository.upsert(1L, DATE, new BigDecimal("-1000"), -1L));
+
+        SpendingDailySummary summary = summaryRepository.findByKakaoIdAndDate(1L, DATE).orElseThrow();
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("2000");
+        assertThat(summary.getSpendingCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.repository.FriendRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FollowGraphCacheTest {
+
+    private FriendRepository friendRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private FollowGraphCache cache;
+
+    @BeforeEach
+    void setUp() {
+        friendRepository = mock(FriendRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FollowGraphCache(friendRepository, meterRegistry, 2, 600);
+        when(friendRepository.findFriendIdsByKakaoId(1L)).thenReturn(List.of(30L, 10L, 20L));
+        when(friendRepository.findFriendIdsByKakaoId(2L)).thenReturn(List.of(10L));
+        when(friendRepository.findFriendIdsByKakaoId(3L)).thenReturn(List.of());
+    }
+
+    @Test
+    void loadsFollowingOnceAndAnswersFromMemory() {
+        assertThat(cache.isFollowing(1L, 20L)).isTrue();
+        assertThat(cache.isFollowing(1L, 40L)).isFalse();
+        assertThat(cache.getFollowing(1L)).containsExactly(10L, 20L, 30L);
+
+        verify(friendRepository, times(1)).findFriendIdsByKakaoId(1L);
+        assertThat(requests("hit")).isEqualTo(2);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void followAndUnfollowUpdateCachedSetInPlace() {
+        cache.getFollowing(1L);
+
+        cache.followed(1L, 15L);
+        cache.unfollowed(1L, 30L);
+        cache.followed(1L, 15L);
+
+        assertThat(cache.getFollowing(1L)).containsExactly(10L, 15L, 20L);
+        verify(friendRepository, times(1)).findFriendIdsByKakaoId(1L);
+    }
+
+    @Test
+    void changeCommittedDuringLoadIsNotOverwrittenByStaleList() {
+        // 목록을 읽는 도중에 팔로우가 커밋되는 상황
+        when(friendRepository.findFriendIdsByKakaoId(1L)).thenAnswer(invocation -> {
+            cache.followed(1L, 40L);
+            return List.of(10L);
+        });
+        cache.getFollowing(1L);
+
+        when(friendRepository.findFriendIdsByKakaoId(1L)).thenReturn(List.of(10L, 40L));
+        assertThat(cache.isFollowing(1L, 40L)).isTrue();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        cache.getFollowing(1L);
+        cache.getFollowing(2L);
+        cache.getFollowing(1L);
+        cache.getFollowing(3L);
+
+        cache.getFollowing(1L);
+        cache.getFollowing(2L);
+
+        verify(friendRepository, times(1)).findFriendIdsByKakaoId(1L);
+        verify(friendRepository, times(2)).findFriendIdsByKakaoId(2L);
+        assertThat(meterRegistry.get("follow_graph.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("follow_graph.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,180 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 목이 아닌 실제 SDK 와 S3 호환 서버(MinIO)로 업로드 경로 확인
+// 테스트 JVM 최대 힙보다 큰 파일을 올려서, SDK 가 스트림을 버퍼링한다면 OutOfMemoryError 로 실패
+@Testcontainers(disabledWithoutDocker = true)
+class ImageStorageServiceMinioTest {
+
+    private static final String BUCKET = "pjx-test";
+    private static final long MULTIPART_THRESHOLD = 8L * 1024 * 1024;
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private AmazonS3Client amazonS3Client;
+    private TransferManager transferManager;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(
+                        new BasicAWSCredentials(minio.getUserName(), minio.getPassword())))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(minio.getS3URL(), "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        if (!amazonS3Client.doesBucketExistV2(BUCKET)) {
+            amazonS3Client.createBucket(BUCKET);
+        }
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.shutdownNow(true);
+    }
+
+    @Test
+    void streamsImageLargerThanHeapWithSinglePut() {
+        // 멀티파트 경로를 끄고 putObject(InputStream) 한 번으로 전송
+        ImageStorageService service = service(Long.MAX_VALUE);
+        long size = Runtime.getRuntime().maxMemory() + 64L * 1024 * 1024;
+
+        String key = storedKey(service, service.uploadAll("spending/", List.of(new GeneratedMultipartFile("huge.jpg", size))));
+
+        assertThat(amazonS3Client.getObjectMetadata(BUCKET, key).getContentLength()).isEqualTo(size);
+    }
+
+    @Test
+    void uploadsLargeImageAsMultipartFromTempFile() {
+        ImageStorageService service = service(MULTIPART_THRESHOLD);
+        long size = 3 * MULTIPART_THRESHOLD + 123;
+
+        String key = storedKey(service, service.uploadAll("spending/", List.of(new GeneratedMultipartFile("panorama.png", size))));
+
+        assertThat(amazonS3Client.getObjectMetadata(BUCKET, key).getContentLength()).isEqualTo(size);
+    }
+
+    private ImageStorageService service(long multipartThreshold) {
+        ImageObjectService imageObjectService = mock(ImageObjectService.class);
+        when(imageObjectService.register(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+        ImageStorageService service = new ImageStorageService(
+                amazonS3Client, transferManager, imageObjectService, Runnable::run, 1, multipartThreshold);
+        ReflectionTestUtils.setField(service, "bucketName", BUCKET);
+        return service;
+    }
+
+    private static String storedKey(ImageStorageService service, List<String> urls) {
+        assertThat(urls).hasSize(1);
+        String key = service.keyOf(urls.get(0));
+        assertThat(key).startsWith("spending/");
+        return key;
+    }
+
+    // 내용을 메모리에 들고 있지 않고 읽을 때마다 생성하는 업로드 파일 (getBytes 호출 시 실패)
+    private static class GeneratedMultipartFile implements MultipartFile {
+
+        private final String originalFilename;
+        private final long size;
+
+        GeneratedMultipartFile(String originalFilename, long size) {
+            this.originalFilename = originalFilename;
+            this.size = size;
+        }
+
+        @Override
+        public String getName() {
+            return "images";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("upload must not buffer the whole file");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = size;
+
+                @Override
+                public int read() {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    remaining--;
+                    return 'x';
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    int n = (int) Math.min(len, remaining);
+                    Arrays.fill(b, off, off + n, (byte) 'x');
+                    remaining -= n;
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            try (InputStream in = getInputStream(); OutputStream out = Files.newOutputStream(dest.toPath())) {
+                in.transferTo(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageStorageServiceTest {
+
+    private static final String BUCKET = "pjx-test";
+    private static final int PER_REQUEST_CONCURRENCY = 3;
+    private static final long MULTIPART_THRESHOLD = 8L * 1024 * 1024;
+
+    private AmazonS3Client amazonS3Client;
+    private TransferManager transferManager;
+    private ImageObjectService imageObjectService;
+    private ExecutorService executor;
+    private ImageStorageService imageStorageService;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<String> storedKeys = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3Client = mock(AmazonS3Client.class);
+        transferManager = mock(TransferManager.class);
+        imageObjectService = mock(ImageObjectService.class);
+        when(imageObjectService.register(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+        executor = Executors.newFixedThreadPool(8);
+        imageStorageService = service(executor, MULTIPART_THRESHOLD);
+
+        when(amazonS3Client.getUrl(eq(BUCKET), anyString()))
+                .thenAnswer(invocation -> new URL("https://" + BUCKET + ".s3.amazonaws.com/" + invocation.getArgument(1)));
+        when(amazonS3Client.putObject(eq(BUCKET), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+                .thenAnswer(invocation -> {
+                    String key = invocation.getArgument(1);
+                    if (key.startsWith("stream/")) {
+                        // 큰 파일 스트림을 SDK 처럼 끝까지 읽어서 전송 (지연 없음)
+                        InputStream in = invocation.getArgument(2);
+                        in.transferTo(OutputStream.nullOutputStream());
+                        return new PutObjectResult();
+                    }
+                    int current = inFlight.incrementAndGet();
+                    maxInFlight.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(100); // S3 왕복 지연
+                        if (key.endsWith("broken.jpg")) {
+                            throw new IllegalStateException("S3 unavailable");
+                        }
+                        storedKeys.add(key);
+                        return new PutObjectResult();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void uploadsConcurrentlyWithinPerRequestLimitAndKeepsOrder() {
+        List<MultipartFile> files = List.of(image("1.jpg"), image("2.png"), image("3.webp"), image("4.jpg"), image("5.jpeg"));
+
+        List<String> urls = imageStorageService.uploadAll("spending/", files);
+
+        assertThat(urls).hasSize(5);
+        for (int i = 0; i < files.size(); i++) {
+            assertThat(urls.get(i))
+                    .contains("/spending/")
+                    .endsWith("-" + files.get(i).getOriginalFilename());
+        }
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(PER_REQUEST_CONCURRENCY);
+    }
+
+    @Test
+    void releasesUploadedImagesWhenOneUploadFails() {
+        List<MultipartFile> files = List.of(image("1.jpg"), image("broken.jpg"), image("3.jpg"));
+
+        assertThatThrownBy(() -> imageStorageService.uploadAll("spending/", files))
+                .isInstanceOf(RuntimeException.class)
+                .hasRootCauseMessage("S3 unavailable");
+
+        assertThat(storedKeys).isNotEmpty();
+        for (String key : storedKeys) {
+            verify(imageObjectService).release(key);
+        }
+        verify(amazonS3Client, never()).getUrl(eq(BUCKET), anyString());
+    }
+
+    @Test
+    void reusesExistingObjectForSameContentWithoutUploading() {
+        MockMultipartFile first = image("receipt.jpg");
+        MockMultipartFile again = new MockMultipartFile("images", "receipt-copy.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+
+        String firstUrl = imageStorageService.upload("spending/", first);
+        verify(imageObjectService).register(hash.capture(), anyString());
+        String firstKey = storedKeys.iterator().next();
+        when(imageObjectService.reuse(hash.getValue())).thenReturn(firstKey);
+
+        String againUrl = imageStorageService.upload("spending/", again);
+
+        assertThat(againUrl).isEqualTo(firstUrl);
+        assertThat(storedKeys).hasSize(1);
+    }
+
+    @Test
+    void smallImageIsStreamedWithKnownContentLength() {
+        StreamingMultipartFile file = new StreamingMultipartFile("receipt.jpg", 1024 * 1024);
+
+        imageStorageService.upload("stream/", file);
+
+        ArgumentCaptor<ObjectMetadata> metadata = ArgumentCaptor.forClass(ObjectMetadata.class);
+        verify(amazonS3Client).putObject(eq(BUCKET), anyString(), any(InputStream.class), metadata.capture());
+        assertThat(metadata.getValue().getContentLength()).isEqualTo(file.getSize());
+        assertThat(metadata.getValue().getContentType()).isEqualTo("image/jpeg");
+        verify(transferManager, never()).upload(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void largeImageGoesThroughTransferManagerFromTempFile() throws Exception {
+        StreamingMultipartFile file = new StreamingMultipartFile("panorama.png", 3 * MULTIPART_THRESHOLD);
+        AtomicReference<File> uploadedFile = new AtomicReference<>();
+        AtomicLong uploadedLength = new AtomicLong();
+        when(transferManager.upload(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            uploadedFile.set(request.getFile());
+            uploadedLength.set(request.getFile().length());
+            assertThat(request.getInputStream()).isNull();
+            assertThat(request.getMetadata().getContentLength()).isEqualTo(file.getSize());
+            return mock(Upload.class);
+        });
+
+        imageStorageService.upload("spending/", file);
+
+        assertThat(uploadedLength.get()).isEqualTo(file.getSize());
+        assertThat(uploadedFile.get()).doesNotExist();
+        verify(amazonS3Client, never()).putObject(eq(BUCKET), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    @Test
+    void streamingUploadAllocationDoesNotGrowWithFileSize() {
+        // 업로드를 호출 스레드에서 실행해 그 스레드의 할당량만 측정
+        ImageStorageService inline = service(Runnable::run, Long.MAX_VALUE);
+
+        long small = allocatedWhileUploading(inline, new StreamingMultipartFile("small.jpg", 4L * 1024 * 1024));
+        long large = allocatedWhileUploading(inline, new StreamingMultipartFile("large.jpg", 256L * 1024 * 1024));
+
+        // 파일 전체를 byte[] 로 올렸다면 256MB 이상 할당됨
+        assertThat(large).isLessThan(16L * 1024 * 1024);
+        assertThat(large).isLessThan(small + 8L * 1024 * 1024);
+    }
+
+    @Test
+    void presignedUploadKeyStaysUnderUserPrefix() throws Exception {
+        when(amazonS3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://" + BUCKET + ".s3.amazonaws.com/signed"));
+
+        Map<String, Object> upload = imageStorageService.presignUpload("spending/7/", "../../profiles/x.png");
+
+        ArgumentCaptor<GeneratePresignedUrlRequest> request = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(amazonS3Client).generatePresignedUrl(request.capture());
+        assertThat(request.getValue().getMethod()).isEqualTo(HttpMethod.PUT);
+        assertThat(request.getValue().getContentType()).isEqualTo("image/png");
+        assertThat((String) upload.get("key")).startsWith("spending/7/").endsWith("-x.png").doesNotContain("..");
+    }
+
+    @Test
+    void confirmRejectsKeysOutsidePrefixOrNotUploaded() {
+        assertThatThrownBy(() -> imageStorageService.confirmUpload("spending/7/", "spending/8/a.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        when(amazonS3Client.getObjectMetadata(BUCKET, "spending/7/missing.jpg")).thenThrow(notFound);
+        assertThatThrownBy(() -> imageStorageService.confirmUpload("spending/7/", "spending/7/missing.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void confirmDeletesOversizedDirectUpload() {
+        ReflectionTestUtils.setField(imageStorageService, "maxDirectUploadBytes", 1024L);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(4096);
+        when(amazonS3Client.getObjectMetadata(BUCKET, "profiles/7/big.jpg")).thenReturn(metadata);
+
+        assertThatThrownBy(() -> imageStorageService.confirmUpload("profiles/7/", "profiles/7/big.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(amazonS3Client).deleteObject(BUCKET, "profiles/7/big.jpg");
+    }
+
+    private long allocatedWhileUploading(ImageStorageService service, MultipartFile file) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        service.uploadAll("stream/", List.of(file));
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private ImageStorageService service(Executor uploadExecutor, long multipartThreshold) {
+        ImageStorageService service = new ImageStorageService(
+                amazonS3Client, transferManager, imageObjectService, uploadExecutor, PER_REQUEST_CONCURRENCY, multipartThreshold);
+        ReflectionTestUtils.setField(service, "bucketName", BUCKET);
+        return service;
+    }
+
+    private static MockMultipartFile image(String name) {
+        return new MockMultipartFile("images", name, "image/jpeg", new byte[]{1, 2, 3});
+    }
+
+    // 내용을 메모리에 들고 있지 않고 읽을 때마다 생성하는 업로드 파일 (getBytes 호출 시 실패)
+    private static class StreamingMultipartFile implements MultipartFile {
+
+        private final String originalFilename;
+        private final long size;
+
+        StreamingMultipartFile(String originalFilename, long size) {
+            this.originalFilename = originalFilename;
+            this.size = size;
+        }
+
+        @Override
+        public String getName() {
+            return "images";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("upload must not buffer the whole file");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = size;
+
+                @Override
+                public int read() {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    remaining--;
+                    return 'x';
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    int n = (int) Math.min(len, remaining);
+                    Arrays.fill(b, off, off + n, (byte) 'x');
+                    remaining -= n;
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            try (InputStream in = getInputStream(); OutputStream out = Files.newOutputStream(dest.toPath())) {
+                in.transferTo(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.pjx.pjxserver.domain.ImageVariant;
+import com.pjx.pjxserver.domain.Spending;
+import com.pjx.pjxserver.repository.SpendingRepository;
+import com.pjx.pjxserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantServiceTest {
+
+    private static final String BUCKET = "pjx-test";
+    private static final long MAX_PIXELS = 5_000_000;
+    private static final String ORIGINAL_URL = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/spending/abc-receipt.png";
+
+    private AmazonS3Client amazonS3Client;
+    private SpendingRepository spendingRepository;
+    private ImageVariantService imageVariantService;
+
+    private final Map<String, BufferedImage> uploadedVariants = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3Client = mock(AmazonS3Client.class);
+        spendingRepository = mock(SpendingRepository.class);
+
+        ImageStorageService imageStorageService = mock(ImageStorageService.class);
+        when(imageStorageService.keyOf(ORIGINAL_URL)).thenReturn("spending/abc-receipt.png");
+
+        imageVariantService = new ImageVariantService(amazonS3Client, imageStorageService, spendingRepository,
+                mock(UserRepository.class), new TransactionTemplate(mock(PlatformTransactionManager.class)), Runnable::run,
+                MAX_PIXELS);
+        ReflectionTestUtils.setField(imageVariantService, "bucketName", BUCKET);
+
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream(png(2016, 1512)));
+        when(amazonS3Client.getObject(BUCKET, "spending/abc-receipt.png")).thenReturn(original);
+        when(amazonS3Client.getUrl(eq(BUCKET), anyString()))
+                .thenAnswer(invocation -> new URL("https://" + BUCKET + ".s3.amazonaws.com/" + invocation.getArgument(1)));
+        when(amazonS3Client.putObject(eq(BUCKET), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+                .thenAnswer(invocation -> {
+                    ObjectMetadata metadata = invocation.getArgument(3);
+                    assertThat(metadata.getContentType()).isEqualTo("image/jpeg");
+                    BufferedImage image = ImageIO.read((InputStream) invocation.getArgument(2));
+                    uploadedVariants.put(invocation.getArgument(1), image);
+                    return null;
+                });
+    }
+
+    @Test
+    void writesThumbnailAndMediumNextToOriginal() {
+        ImageVariant variant = imageVariantService.createVariant(ORIGINAL_URL);
+
+        assertThat(variant.getOriginalUrl()).isEqualTo(ORIGINAL_URL);
+        assertThat(variant.getThumbnailUrl()).endsWith("/spending/thumbnails/abc-receipt.jpg");
+        assertThat(variant.getMediumUrl()).endsWith("/spending/medium/abc-receipt.jpg");
+
+        BufferedImage thumbnail = uploadedVariants.get("spending/thumbnails/abc-receipt.jpg");
+        assertThat(thumbnail.getWidth()).isEqualTo(ImageVariantService.THUMBNAIL_MAX_EDGE);
+        assertThat(thumbnail.getHeight()).isEqualTo(180);
+
+        BufferedImage medium = uploadedVariants.get("spending/medium/abc-receipt.jpg");
+        assertThat(medium.getWidth()).isEqualTo(ImageVariantService.MEDIUM_MAX_EDGE);
+        assertThat(medium.getHeight()).isEqualTo(810);
+    }
+
+    @Test
+    void recordsVariantsOnSpendingSoListsServeThumbnails() {
+        Spending spending = Spending.builder()
+                .id(1L)
+                .kakaoId(1L)
+                .amount(BigDecimal.TEN)
+                .description("점심")
+                .date(LocalDate.of(2024, 11, 24))
+                .images(new ArrayList<>(List.of(ORIGINAL_URL)))
+                .build();
+        when(spendingRepository.findById(1L)).thenReturn(Optional.of(spending));
+
+        imageVariantService.generateForSpending(1L, List.of(ORIGINAL_URL));
+
+        assertThat(spending.getThumbnailUrls()).singleElement()
+                .asString().endsWith("/spending/thumbnails/abc-receipt.jpg");
+    }
+
+    @Test
+    void subsamplesLargeOriginalWithoutShrinkingBelowMedium() throws Exception {
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream(png(2400, 1800)));
+        when(amazonS3Client.getObject(BUCKET, "spending/abc-receipt.png")).thenReturn(original);
+
+        imageVariantService.createVariant(ORIGINAL_URL);
+
+        assertThat(ImageVariantService.sourceSubsampling(2400, 1800)).isEqualTo(2);
+        BufferedImage medium = uploadedVariants.get("spending/medium/abc-receipt.jpg");
+        assertThat(medium.getWidth()).isEqualTo(ImageVariantService.MEDIUM_MAX_EDGE);
+        assertThat(medium.getHeight()).isEqualTo(810);
+    }
+
+    @Test
+    void skipsOriginalWithTooManyPixelsBeforeDecoding() throws Exception {
+        // 3000x2000 = 600만 픽셀 > MAX_PIXELS
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream(png(3000, 2000)));
+        when(amazonS3Client.getObject(BUCKET, "spending/abc-receipt.png")).thenReturn(original);
+
+        assertThat(imageVariantService.createVariant(ORIGINAL_URL)).isNull();
+        verify(amazonS3Client, never()).putObject(eq(BUCKET), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    @Test
+    void skipsImagesOutsideOurBucket() {
+        assertThat(imageVariantService.createVariant("http://k.kakaocdn.net/dn/profile.jpg")).isNull();
+        verify(amazonS3Client, never()).getObject(anyString(), anyString());
+    }
+
+    @Test
+    void variantKeyKeepsPrefixAndSwitchesToJpeg() {
+        assertThat(ImageVariantService.variantKey("profiles/uuid-me.webp", "thumbnails/"))
+                .isEqualTo("profiles/thumbnails/uuid-me.jpg");
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,107 @@
+package com.pjx.pjxserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pjx.pjxserver.config.WebClientConfig;
+import com.pjx.pjxserver.dto.KakaoUserInfoResponseDto;
+import com.pjx.pjxserver.support.KakaoStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 카카오 스텁에 실제 HTTP 로 붙여 풀/타임아웃/재시도 동작 확인
+class KakaoServiceTest {
+
+    private KakaoStubServer stub;
+    private ConnectionProvider connectionProvider;
+    private KakaoService kakaoService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new KakaoStubServer(0);
+
+        WebClientConfig config = new WebClientConfig();
+        connectionProvider = config.kakaoConnectionProvider(
+                10, 500, Duration.ofSeconds(2), Duration.ofSeconds(30), Duration.ofMinutes(5));
+        WebClient webClient = config.kakaoWebClient(
+                WebClient.builder(), connectionProvider, Duration.ofSeconds(1), Duration.ofMillis(300));
+
+        kakaoService = new KakaoService(new ObjectMapper(), webClient);
+        ReflectionTestUtils.setField(kakaoService, "clientId", "client");
+        ReflectionTestUtils.setField(kakaoService, "clientSecret", "secret");
+        ReflectionTestUtils.setField(kakaoService, "authBaseUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(kakaoService, "apiBaseUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(kakaoService, "retryMaxAttempts", 2);
+        ReflectionTestUtils.setField(kakaoService, "retryMinBackoff", Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        stub.close();
+    }
+
+    @Test
+    void userInfoRetriesTransientServerErrors() {
+        stub.failNext(2);
+
+        KakaoUserInfoResponseDto userInfo = kakaoService.getUserInfo("token").block(Duration.ofSeconds(5));
+
+        assertThat(userInfo.getId()).isPositive();
+        assertThat(stub.userInfoRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void userInfoGivesUpAfterBoundedRetries() {
+        stub.failNext(10);
+
+        assertThatThrownBy(() -> kakaoService.getUserInfo("token").block(Duration.ofSeconds(5)))
+                .hasRootCauseInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(stub.userInfoRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void tokenRequestIsNotRetried() {
+        stub.failNext(1);
+
+        assertThatThrownBy(() -> kakaoService.getAccessToken("code", "http://localhost/cb").block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(stub.tokenRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void slowKakaoIsCutOffByResponseTimeout() {
+        stub.setLatencyMillis(2_000);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> kakaoService.getUserInfo("token").block(Duration.ofSeconds(10)))
+                .isInstanceOf(RuntimeException.class);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // 응답 타임아웃 300ms x (1 + 재시도 2) + 백오프, 스텁 지연 2초를 기다리지 않음
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1_900));
+    }
+
+    @Test
+    void concurrentLoginsShareThePool() {
+        stub.setLatencyMillis(50);
+
+        List<KakaoUserInfoResponseDto> users = Flux.range(0, 100)
+                .flatMap(i -> kakaoService.getUserInfo("token-" + i), 100)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(users).hasSize(100);
+        assertThat(stub.userInfoRequests()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,88 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.domain.User;
+import com.pjx.pjxserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NicknameSearchIndexTest {
+
+    private UserRepository userRepository;
+    private NicknameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        index = new NicknameSearchIndex(userRepository, 3);
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContains() {
+        index.put(1L, "카카오1", "미키마우스");
+        index.put(2L, "카카오2", "미키");
+        index.put(3L, "카카오3", "내친구미키");
+        index.put(4L, "미키", null);
+        index.put(5L, "카카오5", "도날드");
+
+        // 같은 완전 일치면 앱 닉네임(userNickname) 이 카카오 닉네임보다 앞
+        assertThat(index.search("미키")).containsExactly(2L, 4L, 1L);
+    }
+
+    @Test
+    void bigramCandidatesAreVerifiedAgainstTheWholeQuery() {
+        // "ab", "bc" 를 모두 가지지만 "abc" 는 포함하지 않음
+        index.put(1L, "abxbc", null);
+        index.put(2L, "xabcx", null);
+
+        assertThat(index.search("ABC")).containsExactly(2L);
+        assertThat(index.search("zz")).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryAndNormalization() {
+        String decomposed = Normalizer.normalize("한글", Normalizer.Form.NFD);
+        index.put(1L, "kakao", decomposed);
+
+        assertThat(index.search("한")).containsExactly(1L);
+        assertThat(index.search("한글")).containsExactly(1L);
+    }
+
+    @Test
+    void nicknameChangeReplacesOldGrams() {
+        index.put(1L, "카카오", "미키");
+        index.put(1L, "카카오", "구피");
+
+        assertThat(index.search("미키")).isEmpty();
+        assertThat(index.search("구피")).containsExactly(1L);
+
+        index.put(1L, null, null);
+        assertThat(index.search("카카오")).isEmpty();
+    }
+
+    @Test
+    void rebuildLoadsUsersPageByPageAndKeepsChangesMadeDuringRebuild() {
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // 테이블을 읽는 도중에 커밋된 닉네임 변경
+            index.put(2L, "카카오2", "새닉네임");
+            return List.of(
+                    User.builder().id(1L).kakaoId(1L).nickname("카카오1").userNickname("미키").build(),
+                    User.builder().id(2L).kakaoId(2L).nickname("카카오2").userNickname("옛닉네임").build());
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("미키")).containsExactly(1L);
+        assertThat(index.search("새닉네임")).containsExactly(2L);
+        assertThat(index.search("옛닉네임")).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package com.pjx.pjxserver.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.pjx.pjxserver.repository.ImageObjectRepository;
+import com.pjx.pjxserver.repository.SpendingRepository;
+import com.pjx.pjxserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrphanImageCleanupJobTest {
+
+    private static final String BUCKET = "pjx-test";
+    private static final Date OLD = new Date(System.currentTimeMillis() - Duration.ofDays(3).toMillis());
+    private static final Date FRESH = new Date();
+
+    private AmazonS3Client amazonS3Client;
+    private OrphanImageCleanupJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3Client = mock(AmazonS3Client.class);
+        SpendingRepository spendingRepository = mock(SpendingRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        ImageObjectRepository imageObjectRepository = mock(ImageObjectRepository.class);
+
+        job = new OrphanImageCleanupJob(amazonS3Client, spendingRepository, userRepository, imageObjectRepository);
+        ReflectionTestUtils.setField(job, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(job, "gracePeriod", Duration.ofHours(24));
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+        ReflectionTestUtils.setField(job, "batchPauseMillis", 0L);
+        ReflectionTestUtils.setField(job, "maxDeletesPerRun", 100);
+
+        when(amazonS3Client.getUrl(eq(BUCKET), anyString()))
+                .thenAnswer(invocation -> new URL(url(invocation.getArgument(1))));
+        when(amazonS3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> {
+            ListObjectsV2Request request = invocation.getArgument(0);
+            if (request.getPrefix().equals("profiles/")) {
+                return page(null, object("profiles/current.jpg", OLD), object("profiles/orphan.jpg", OLD));
+            }
+            if (request.getContinuationToken() == null) {
+                return page("next", object("spending/referenced.jpg", OLD), object("spending/registered.jpg", OLD),
+                        object("spending/orphan-1.jpg", OLD), object("spending/fresh.jpg", FRESH));
+            }
+            return page(null, object("spending/orphan-2.jpg", OLD), object("spending/orphan-3.jpg", OLD));
+        });
+
+        when(imageObjectRepository.findS3KeysIn(anyCollection()))
+                .thenAnswer(invocation -> matching(invocation.getArgument(0), "spending/registered.jpg"));
+        when(spendingRepository.findReferencedImageUrls(anyCollection()))
+                .thenAnswer(invocation -> matching(invocation.getArgument(0), url("spending/referenced.jpg")));
+        when(userRepository.findReferencedProfileUrls(anyCollection()))
+                .thenAnswer(invocation -> matching(invocation.getArgument(0), url("profiles/current.jpg")));
+    }
+
+    @Test
+    void deletesOnlyOldUnreferencedObjectsInBatches() {
+        int deleted = job.run();
+
+        List<DeleteObjectsRequest> requests = deleteRequests();
+        assertThat(requests).allSatisfy(request -> assertThat(request.getKeys()).hasSizeLessThanOrEqualTo(2));
+        assertThat(keysOf(requests)).containsExactlyInAnyOrder(
+                "spending/orphan-1.jpg", "spending/orphan-2.jpg", "spending/orphan-3.jpg", "profiles/orphan.jpg");
+        assertThat(deleted).isEqualTo(4);
+    }
+
+    @Test
+    void stopsAtMaxDeletesPerRun() {
+        ReflectionTestUtils.setField(job, "maxDeletesPerRun", 3);
+
+        int deleted = job.run();
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(keysOf(deleteRequests())).hasSize(3).noneMatch(key -> key.startsWith("profiles/"));
+    }
+
+    @Test
+    void dryRunDeletesNothing() {
+        ReflectionTestUtils.setField(job, "dryRun", true);
+
+        assertThat(job.run()).isEqualTo(4);
+        verify(amazonS3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    private List<DeleteObjectsRequest> deleteRequests() {
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3Client, atLeastOnce()).deleteObjects(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static List<String> keysOf(List<DeleteObjectsRequest> requests) {
+        return requests.stream()
+                .flatMap(request -> request.getKeys().stream())
+                .map(DeleteObjectsRequest.KeyVersion::getKey)
+                .toList();
+    }
+
+    private static List<String> matching(Collection<String> candidates, String referenced) {
+        return candidates.contains(referenced) ? List.of(referenced) : List.of();
+    }
+
+    private static String url(String key) {
+        return "https://" + BUCKET + ".s3.amazonaws.com/" + key;
+    }
+
+    private static ListObjectsV2Result page(String nextToken, S3ObjectSummary... objects) {
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.getObjectSummaries().addAll(List.of(objects));
+        result.setNextContinuationToken(nextToken);
+        result.setTruncated(nextToken != null);
+        return result;
+    }
+
+    private static S3ObjectSummary object(String key, Date lastModified) {
+        S3ObjectSummary summary = new S3ObjectSummary();
+        summary.setBucketName(BUCKET);
+        summary.setKey(key);
+        summary.setLastModified(lastModified);
+        return summary;
+    }
+}
@@ -0,0 +1,119 @@
+package com.pjx.pjxserver.service;
+
+import com.pjx.pjxserver.common.BloomFilter;
+import com.pjx.pjxserver.domain.User;
+import com.pjx.pjxserver.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserNicknameFilterTest {
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private UserNicknameFilter filter;
+
+    private final AtomicInteger dbChecks = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UserNicknameFilter(userRepository, meterRegistry, 1000, 0.01);
+
+        when(userRepository.countByUserNicknameIsNotNull()).thenReturn(2L);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                User.builder().id(1L).kakaoId(1L).nickname("k1").userNickname("미키").build(),
+                User.builder().id(2L).kakaoId(2L).nickname("k2").userNickname("Donald").build(),
+                User.builder().id(3L).kakaoId(3L).nickname("k3").build()));
+    }
+
+    @Test
+    void everyCheckGoesToDbUntilLoaded() {
+        assertThat(filter.isTaken("구피", () -> dbCheck(false))).isFalse();
+        assertThat(dbChecks).hasValue(1);
+    }
+
+    @Test
+    void definitelyAbsentNicknameSkipsDb() {
+        filter.rebuild();
+
+        assertThat(filter.isTaken("구피", () -> dbCheck(false))).isFalse();
+        assertThat(filter.isTaken("미키", () -> dbCheck(true))).isTrue();
+        // DB 콜레이션처럼 대소문자/끝 공백이 달라도 "있을 수도 있음"
+        assertThat(filter.isTaken("donald ", () -> dbCheck(true))).isTrue();
+
+        assertThat(dbChecks).hasValue(2);
+        assertThat(checks("absent")).isEqualTo(1);
+        assertThat(checks("maybe")).isEqualTo(2);
+    }
+
+    @Test
+    void addedNicknameIsNeverReportedAvailable() {
+        filter.rebuild();
+        filter.added("구피");
+
+        assertThat(filter.isTaken("구피", () -> dbCheck(true))).isTrue();
+        assertThat(dbChecks).hasValue(1);
+    }
+
+    @Test
+    void nicknameAddedDuringRebuildSurvivesTheSwap() {
+        filter.rebuild();
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            filter.added("플루토");
+            return List.of();
+        });
+
+        filter.rebuild();
+
+        assertThat(filter.isTaken("플루토", () -> dbCheck(true))).isTrue();
+        assertThat(filter.isTaken("미키", () -> dbCheck(false))).isFalse();
+        assertThat(dbChecks).hasValue(1);
+    }
+
+    @Test
+    void falsePositiveRateIsReportedAndStaysNearTarget() {
+        BloomFilter bloom = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloom.put("taken-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloom.mightContain("taken-" + i)).isTrue();
+            if (bloom.mightContain("free-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+        assertThat(bloom.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+
+        filter.rebuild();
+        for (int i = 0; i < 200; i++) {
+            filter.isTaken("free-" + i, () -> dbCheck(false));
+        }
+        double observed = meterRegistry.get("user_nickname_filter.false_positive_rate").gauge().value();
+        double falsePositiveCount = meterRegistry.get("user_nickname_filter.false_positives").counter().count();
+        assertThat(observed).isEqualTo(falsePositiveCount / 200);
+        assertThat(observed).isLessThan(0.05);
+    }
+
+    private boolean dbCheck(boolean taken) {
+        dbChecks.incrementAndGet();
+        return taken;
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("user_nickname_filter.checks").tag("result", result).counter().count();
+    }
+}
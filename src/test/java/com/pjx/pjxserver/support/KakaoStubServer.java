@@ -0,0 +1,121 @@
+package com.pjx.pjxserver.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// kauth.kakao.com/oauth/token, kapi.kakao.com/v2/user/me 를 흉내 내는 로컬 스텁
+// 응답 지연, 실패(503) 를 조절해 카카오 장애 상황의 로그인 경로를 오프라인으로 테스트
+// 단독 실행: main(port, latencyMillis, failureRate) 후 KAKAO_AUTH_BASE_URL/KAKAO_API_BASE_URL 을 스텁 주소로 지정
+public class KakaoStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile long latencyMillis;
+    private volatile double failureRate;
+    private final AtomicInteger failNext = new AtomicInteger();
+    private final AtomicInteger userInfoRequests = new AtomicInteger();
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+
+    public KakaoStubServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/oauth/token", this::token);
+        server.createContext("/v2/user/me", this::userInfo);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    // 다음 n 개의 요청은 무조건 503
+    public void failNext(int n) {
+        failNext.set(n);
+    }
+
+    public int userInfoRequests() {
+        return userInfoRequests.get();
+    }
+
+    public int tokenRequests() {
+        return tokenRequests.get();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        respond(exchange, """
+                {"access_token": "stub-access-token", "refresh_token": "stub-refresh-token", \
+                "expires_in": 21599, "refresh_token_expires_in": 5183999}""");
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        userInfoRequests.incrementAndGet();
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            send(exchange, 401, "{\"msg\": \"this access token does not exist\", \"code\": -401}");
+            return;
+        }
+        // 토큰마다 다른 사용자가 되도록 토큰 문자열로 id 결정
+        long id = Math.abs((long) authorization.substring(7).hashCode()) + 1;
+        respond(exchange, """
+                {"id": %d, "properties": {"nickname": "stub-%d", "profile_image": "http://k.kakaocdn.net/stub/%d.jpg"}}"""
+                .formatted(id, id, id));
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0
+                || ThreadLocalRandom.current().nextDouble() < failureRate) {
+            send(exchange, 503, "{\"msg\": \"stub failure\", \"code\": -9798}");
+            return;
+        }
+        send(exchange, 200, body);
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        KakaoStubServer stub = new KakaoStubServer(port);
+        stub.setLatencyMillis(args.length > 1 ? Long.parseLong(args[1]) : 50);
+        stub.setFailureRate(args.length > 2 ? Double.parseDouble(args[2]) : 0.0);
+        System.out.println("Kakao stub listening on " + stub.baseUrl());
+    }
+}